@@ -0,0 +1,114 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Value;
+
+/**
+ * Edge cache of GET responses, bounded by total body bytes; every entry lives for its own TTL
+ * (the configured ttl, shortened by the response's s-maxage / max-age).
+ */
+@Component
+public class GatewayResponseCache {
+	
+	private final Cache<Key, Entry> cache;
+	
+	public GatewayResponseCache(final ResponseCacheProperties properties, final MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+				.maximumWeight(properties.getMaximumWeight())
+				.weigher((final Key key, final Entry entry) -> entry.getBody().length)
+				.expireAfter(new Expiry<Key, Entry>() {
+					@Override
+					public long expireAfterCreate(final Key key, final Entry entry, final long currentTime) {
+						return entry.getTtl().toNanos();
+					}
+					@Override
+					public long expireAfterUpdate(final Key key, final Entry entry, final long currentTime, final long currentDuration) {
+						return entry.getTtl().toNanos();
+					}
+					@Override
+					public long expireAfterRead(final Key key, final Entry entry, final long currentTime, final long currentDuration) {
+						return currentDuration;
+					}
+				})
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "gateway.response.cache");
+	}
+	
+	public Entry get(final Key key) {
+		return this.cache.getIfPresent(key);
+	}
+	
+	public void put(final Key key, final Entry entry) {
+		this.cache.put(key, entry);
+	}
+	
+	public long invalidateAll() {
+		final long size = this.cache.estimatedSize();
+		this.cache.invalidateAll();
+		return size;
+	}
+	
+	public long invalidate(final String pathPrefix) {
+		final var keys = this.cache.asMap().keySet().stream()
+				.filter(key -> key.getPath().startsWith(pathPrefix))
+				.toArray(Key[]::new);
+		for (final var key : keys)
+			this.cache.invalidate(key);
+		return keys.length;
+	}
+	
+	public Map<String, Object> stats() {
+		final var stats = this.cache.stats();
+		return Map.of(
+				"size", this.cache.estimatedSize(), 
+				"hitCount", stats.hitCount(), 
+				"missCount", stats.missCount(), 
+				"hitRate", stats.hitRate(), 
+				"evictionCount", stats.evictionCount());
+	}
+	
+	/**
+	 * Auth scope is a digest of the Authorization header (never the token itself), encoding tells
+	 * gzip-compressed bodies apart from identity ones.
+	 */
+	@Value
+	public static class Key {
+		String path;
+		String query;
+		String authScope;
+		String encoding;
+	}
+	
+	@Value
+	public static class Entry {
+		int statusCode;
+		HttpHeaders headers;
+		byte[] body;
+		long createdAtMillis;
+		Duration ttl;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
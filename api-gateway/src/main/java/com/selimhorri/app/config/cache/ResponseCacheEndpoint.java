@@ -0,0 +1,52 @@
+package com.selimhorri.app.config.cache;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stats read and invalidation of everything, or only the entries under a pathPrefix, e.g. after a catalog
+ * update. Excluded from the web exposure (it is unauthenticated), so operators reach it over JMX
+ * (spring.jmx.enabled=true) or on a separate management.server.port that is not routed publicly.
+ */
+@Component
+@Endpoint(id = "responsecache")
+@Slf4j
+@RequiredArgsConstructor
+public class ResponseCacheEndpoint {
+	
+	private final GatewayResponseCache responseCache;
+	
+	@ReadOperation
+	public Map<String, Object> stats() {
+		return this.responseCache.stats();
+	}
+	
+	@DeleteOperation
+	public Map<String, Object> invalidate(@Nullable final String pathPrefix) {
+		log.info("*** Response cache, gateway; invalidate {} *", (pathPrefix != null) ? pathPrefix : "all");
+		final long invalidated = (pathPrefix != null) 
+				? this.responseCache.invalidate(pathPrefix) 
+				: this.responseCache.invalidateAll();
+		return Map.of("invalidated", invalidated);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
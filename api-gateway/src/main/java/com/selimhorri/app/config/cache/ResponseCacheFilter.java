@@ -0,0 +1,271 @@
+package com.selimhorri.app.config.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Answers configured catalog GETs from the GatewayResponseCache before a route is load balanced, and
+ * stores cacheable 200 responses on the way back. Runs just ahead of NettyWriteResponseFilter so the
+ * body it captures is the one written to the client.
+ * Cache-Control is honoured both ways: a request with no-store bypasses the cache, no-cache or
+ * max-age=0 forces a refresh; responses marked no-store, no-cache or private, carrying Set-Cookie or
+ * Vary: *, are never stored, and s-maxage / max-age shorten the entry TTL. A hit whose ETag matches the
+ * request's If-None-Match is answered with a bodiless 304. On a miss the body is streamed through as
+ * it arrives and only copied aside while it stays within maximumBodySize.
+ */
+@Component
+@Slf4j
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+	
+	private static final String CACHE_STATUS_HEADER = "X-Cache";
+	private static final List<String> NOT_MODIFIED_HEADERS = List.of(HttpHeaders.ETAG, HttpHeaders.CACHE_CONTROL, 
+			HttpHeaders.CONTENT_LOCATION, HttpHeaders.EXPIRES, HttpHeaders.VARY, HttpHeaders.LAST_MODIFIED);
+	private static final Pattern MAX_AGE = Pattern.compile("(?:^|,)\\s*(s-maxage|max-age)\\s*=\\s*\"?(\\d+)\"?", Pattern.CASE_INSENSITIVE);
+	
+	private final ResponseCacheProperties properties;
+	private final GatewayResponseCache responseCache;
+	private final List<PathPattern> pathPatterns;
+	
+	public ResponseCacheFilter(final ResponseCacheProperties properties, final GatewayResponseCache responseCache) {
+		this.properties = properties;
+		this.responseCache = responseCache;
+		this.pathPatterns = properties.getPaths().stream()
+				.map(PathPatternParser.defaultInstance::parse)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public int getOrder() {
+		return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+	}
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		
+		final var request = exchange.getRequest();
+		if (!this.isCacheable(request))
+			return chain.filter(exchange);
+		
+		final var requestCacheControl = cacheControlOf(request.getHeaders());
+		if (requestCacheControl.contains("no-store"))
+			return chain.filter(exchange);
+		
+		final var key = keyOf(request);
+		final boolean refresh = requestCacheControl.contains("no-cache") || maxAgeOf(requestCacheControl).filter(Duration::isZero).isPresent();
+		if (!refresh) {
+			final var entry = this.responseCache.get(key);
+			if (entry != null) {
+				log.debug("*** Response cache hit, gateway; {} *", key.getPath());
+				if (matchesIfNoneMatch(request.getHeaders(), entry.getHeaders().getETag()))
+					return this.writeNotModified(exchange, entry);
+				return this.writeCached(exchange, entry);
+			}
+		}
+		
+		final var response = exchange.getResponse();
+		response.getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+		final var decorated = new ServerHttpResponseDecorator(response) {
+			@Override
+			public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+				final var ttl = ttlOf(this.getStatusCode(), this.getHeaders());
+				if (ttl.isEmpty())
+					return super.writeWith(body);
+				final var capture = new BodyCapture(properties.getMaximumBodySize());
+				return super.writeWith(Flux.from(body)
+						.doOnNext(capture::append)
+						.doOnComplete(() -> capture.bytes()
+								.ifPresent(bytes -> responseCache.put(key, new GatewayResponseCache.Entry(HttpStatus.OK.value(), 
+										storableHeadersOf(this.getHeaders()), bytes, System.currentTimeMillis(), ttl.get())))));
+			}
+		};
+		return chain.filter(exchange.mutate().response(decorated).build());
+	}
+	
+	private boolean isCacheable(final ServerHttpRequest request) {
+		return this.properties.isEnabled() 
+				&& request.getMethod() == HttpMethod.GET 
+				&& this.pathPatterns.stream().anyMatch(pattern -> pattern.matches(request.getPath().pathWithinApplication()));
+	}
+	
+	private Mono<Void> writeCached(final ServerWebExchange exchange, final GatewayResponseCache.Entry entry) {
+		final var response = exchange.getResponse();
+		response.setRawStatusCode(entry.getStatusCode());
+		response.getHeaders().putAll(entry.getHeaders());
+		response.getHeaders().set(HttpHeaders.AGE, 
+				String.valueOf((System.currentTimeMillis() - entry.getCreatedAtMillis()) / 1000));
+		response.getHeaders().set(CACHE_STATUS_HEADER, "HIT");
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(entry.getBody())));
+	}
+	
+	private Mono<Void> writeNotModified(final ServerWebExchange exchange, final GatewayResponseCache.Entry entry) {
+		final var response = exchange.getResponse();
+		response.setStatusCode(HttpStatus.NOT_MODIFIED);
+		NOT_MODIFIED_HEADERS.forEach(name -> {
+			final var values = entry.getHeaders().get(name);
+			if (values != null)
+				response.getHeaders().put(name, values);
+		});
+		response.getHeaders().set(CACHE_STATUS_HEADER, "HIT");
+		return response.setComplete();
+	}
+	
+	/**
+	 * Weak comparison, as If-None-Match requires: W/"x" matches "x", and * matches any stored ETag.
+	 */
+	private static boolean matchesIfNoneMatch(final HttpHeaders requestHeaders, final String eTag) {
+		if (eTag == null)
+			return false;
+		final var opaqueTag = opaqueTagOf(eTag);
+		return requestHeaders.getIfNoneMatch().stream()
+				.anyMatch(candidate -> "*".equals(candidate.trim()) || opaqueTagOf(candidate).equals(opaqueTag));
+	}
+	
+	private static String opaqueTagOf(final String eTag) {
+		final var trimmed = eTag.trim();
+		return trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed;
+	}
+	
+	/**
+	 * Empty when the response must not be stored; otherwise the configured ttl, capped by the
+	 * response's own freshness lifetime.
+	 */
+	private Optional<Duration> ttlOf(final HttpStatus status, final HttpHeaders headers) {
+		if (status != HttpStatus.OK 
+				|| headers.containsKey(HttpHeaders.SET_COOKIE) 
+				|| headers.getVary().contains("*") 
+				|| headers.getContentLength() > this.properties.getMaximumBodySize())
+			return Optional.empty();
+		final var cacheControl = cacheControlOf(headers);
+		if (cacheControl.contains("no-store") || cacheControl.contains("no-cache") || cacheControl.contains("private"))
+			return Optional.empty();
+		final var ttl = maxAgeOf(cacheControl)
+				.filter(maxAge -> maxAge.compareTo(this.properties.getTtl()) < 0)
+				.orElse(this.properties.getTtl());
+		return ttl.isZero() ? Optional.empty() : Optional.of(ttl);
+	}
+	
+	private static HttpHeaders storableHeadersOf(final HttpHeaders headers) {
+		final var storable = new HttpHeaders();
+		headers.forEach((name, values) -> {
+			if (!name.regionMatches(true, 0, "Access-Control-", 0, "Access-Control-".length()) 
+					&& !HttpHeaders.TRANSFER_ENCODING.equalsIgnoreCase(name) 
+					&& !HttpHeaders.CONNECTION.equalsIgnoreCase(name) 
+					&& !HttpHeaders.DATE.equalsIgnoreCase(name) 
+					&& !CACHE_STATUS_HEADER.equalsIgnoreCase(name))
+				storable.put(name, values);
+		});
+		return HttpHeaders.readOnlyHttpHeaders(storable);
+	}
+	
+	private static GatewayResponseCache.Key keyOf(final ServerHttpRequest request) {
+		final var authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+		final var acceptEncoding = request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING);
+		return new GatewayResponseCache.Key(
+				request.getURI().getRawPath(), 
+				StringUtils.hasText(request.getURI().getRawQuery()) ? request.getURI().getRawQuery() : "", 
+				StringUtils.hasText(authorization) ? digestOf(authorization) : "anonymous", 
+				(acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip")) ? "gzip" : "identity");
+	}
+	
+	private static String digestOf(final String value) {
+		try {
+			final var digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+			final var hex = new StringBuilder(digest.length * 2);
+			for (final byte b : digest)
+				hex.append(String.format("%02x", b));
+			return hex.toString();
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static String cacheControlOf(final HttpHeaders headers) {
+		return String.join(",", headers.getOrEmpty(HttpHeaders.CACHE_CONTROL)).toLowerCase();
+	}
+	
+	private static Optional<Duration> maxAgeOf(final String cacheControl) {
+		Duration maxAge = null;
+		final Matcher matcher = MAX_AGE.matcher(cacheControl);
+		while (matcher.find()) {
+			final var seconds = Duration.ofSeconds(Long.parseLong(matcher.group(2)));
+			if ("s-maxage".equals(matcher.group(1)))
+				return Optional.of(seconds);
+			maxAge = seconds;
+		}
+		return Optional.ofNullable(maxAge);
+	}
+	
+	/**
+	 * Copies the bytes of a response body as they are written, and gives up (dropping what it holds)
+	 * as soon as they exceed the limit; the buffers themselves are left untouched for the client.
+	 */
+	private static final class BodyCapture {
+		
+		private final int limit;
+		private ByteArrayOutputStream captured = new ByteArrayOutputStream();
+		
+		private BodyCapture(final int limit) {
+			this.limit = limit;
+		}
+		
+		private void append(final DataBuffer buffer) {
+			if (this.captured == null)
+				return;
+			if (this.captured.size() + buffer.readableByteCount() > this.limit) {
+				this.captured = null;
+				return;
+			}
+			final var readable = buffer.asByteBuffer();
+			final var chunk = new byte[readable.remaining()];
+			readable.get(chunk);
+			this.captured.writeBytes(chunk);
+		}
+		
+		private Optional<byte[]> bytes() {
+			return Optional.ofNullable(this.captured).map(ByteArrayOutputStream::toByteArray);
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,31 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.response-cache")
+@Data
+public class ResponseCacheProperties {
+	
+	private boolean enabled = true;
+	private List<String> paths = List.of();
+	private Duration ttl = Duration.ofSeconds(30);
+	private long maximumWeight = 64L * 1024 * 1024;
+	private int maximumBodySize = 512 * 1024;
+	
+}
+
+
+
+
+
+
+
+
+
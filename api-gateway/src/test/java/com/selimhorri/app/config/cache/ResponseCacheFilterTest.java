@@ -0,0 +1,204 @@
+package com.selimhorri.app.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Pruebas Unitarias para ResponseCacheFilter
+ * - Sin contexto de Spring: cadena de filtros simulada que cuenta las llamadas al servicio de origen
+ */
+@DisplayName("ResponseCacheFilter - Unit Tests")
+class ResponseCacheFilterTest {
+
+    private static final String PRODUCTS = "/product-service/api/products";
+    private static final String CATEGORIES = "/product-service/api/categories";
+    private static final String BODY = "{\"collection\":[]}";
+
+    private ResponseCacheProperties properties;
+    private GatewayResponseCache responseCache;
+    private ResponseCacheFilter filter;
+    private AtomicInteger upstreamCalls;
+    private String upstreamCacheControl;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResponseCacheProperties();
+        properties.setPaths(List.of(PRODUCTS, PRODUCTS + "/**", CATEGORIES));
+        responseCache = new GatewayResponseCache(properties, new SimpleMeterRegistry());
+        filter = new ResponseCacheFilter(properties, responseCache);
+        upstreamCalls = new AtomicInteger();
+        upstreamCacheControl = null;
+    }
+
+    @Test
+    @DisplayName("filter() - La segunda petición debe servirse desde la caché sin llamar al origen")
+    void testFilter_ShouldServeHitAfterMiss() {
+        // Act
+        MockServerWebExchange miss = get(PRODUCTS);
+        MockServerWebExchange hit = get(PRODUCTS);
+
+        // Assert
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(miss.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(hit.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+        assertThat(hit.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("filter() - Un acierto con If-None-Match igual al ETag guardado debe responder 304 sin cuerpo")
+    void testFilter_ShouldAnswerNotModifiedOnMatchingHit() {
+        // Arrange
+        get(PRODUCTS);
+
+        // Act
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get(PRODUCTS).ifNoneMatch("W/\"v1\""));
+
+        // Assert
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(exchange.getResponse().getHeaders().getETag()).isEqualTo("\"v1\"");
+        assertThat(exchange.getResponse().getBodyAsString().block()).isNullOrEmpty();
+    }
+
+    @Test
+    @DisplayName("filter() - Cache-Control: no-store en la petición debe saltarse la caché por completo")
+    void testFilter_ShouldBypassCacheOnRequestNoStore() {
+        // Act
+        exchange(MockServerHttpRequest.get(PRODUCTS).header(HttpHeaders.CACHE_CONTROL, "no-store"));
+        MockServerWebExchange next = get(PRODUCTS);
+
+        // Assert - Nada se guardó con no-store
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(next.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+    }
+
+    @Test
+    @DisplayName("filter() - Cache-Control: no-cache en la petición debe forzar una recarga desde el origen")
+    void testFilter_ShouldRefreshOnRequestNoCache() {
+        // Arrange
+        get(PRODUCTS);
+
+        // Act
+        MockServerWebExchange refreshed = exchange(MockServerHttpRequest.get(PRODUCTS).header(HttpHeaders.CACHE_CONTROL, "no-cache"));
+
+        // Assert
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(refreshed.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+    }
+
+    @Test
+    @DisplayName("filter() - Respuestas con max-age=0 o no-store no deben guardarse")
+    void testFilter_ShouldNotStoreUncacheableResponses() {
+        // Act
+        upstreamCacheControl = "max-age=0";
+        get(PRODUCTS);
+        get(PRODUCTS);
+        upstreamCacheControl = "no-store";
+        get(PRODUCTS);
+        get(PRODUCTS);
+
+        // Assert
+        assertThat(upstreamCalls).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("filter() - Un max-age positivo en la respuesta debe permitir guardarla")
+    void testFilter_ShouldStoreResponseWithMaxAge() {
+        // Act
+        upstreamCacheControl = "max-age=5";
+        get(PRODUCTS);
+        MockServerWebExchange hit = get(PRODUCTS);
+
+        // Assert
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(hit.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+    }
+
+    @Test
+    @DisplayName("filter() - Las entradas deben separarse por el ámbito de autorización")
+    void testFilter_ShouldKeyEntriesByAuthScope() {
+        // Act
+        exchange(MockServerHttpRequest.get(PRODUCTS).header(HttpHeaders.AUTHORIZATION, "Bearer alice"));
+        MockServerWebExchange other = exchange(MockServerHttpRequest.get(PRODUCTS).header(HttpHeaders.AUTHORIZATION, "Bearer bob"));
+        MockServerWebExchange same = exchange(MockServerHttpRequest.get(PRODUCTS).header(HttpHeaders.AUTHORIZATION, "Bearer alice"));
+        MockServerWebExchange anonymous = get(PRODUCTS);
+
+        // Assert
+        assertThat(upstreamCalls).hasValue(3);
+        assertThat(other.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(same.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+        assertThat(anonymous.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+    }
+
+    @Test
+    @DisplayName("invalidate() - Debe eliminar solo las entradas bajo el prefijo indicado")
+    void testInvalidate_ShouldDropOnlyEntriesUnderPrefix() {
+        // Arrange
+        get(PRODUCTS);
+        get(PRODUCTS + "/1");
+        get(CATEGORIES);
+
+        // Act
+        long invalidated = responseCache.invalidate(PRODUCTS);
+        MockServerWebExchange product = get(PRODUCTS + "/1");
+        MockServerWebExchange category = get(CATEGORIES);
+
+        // Assert
+        assertThat(invalidated).isEqualTo(2);
+        assertThat(product.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(category.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+    }
+
+    @Test
+    @DisplayName("filter() - Un cuerpo mayor que maximumBodySize debe pasar íntegro sin guardarse")
+    void testFilter_ShouldPassThroughOversizedBody() {
+        // Arrange
+        properties.setMaximumBodySize(8);
+
+        // Act
+        MockServerWebExchange first = get(PRODUCTS);
+        get(PRODUCTS);
+
+        // Assert
+        assertThat(first.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    private MockServerWebExchange get(final String path) {
+        return exchange(MockServerHttpRequest.get(path));
+    }
+
+    private MockServerWebExchange exchange(final MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, upstream()).block();
+        return exchange;
+    }
+
+    private GatewayFilterChain upstream() {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            var response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setETag("\"v1\"");
+            if (upstreamCacheControl != null)
+                response.getHeaders().setCacheControl(upstreamCacheControl);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+
+}
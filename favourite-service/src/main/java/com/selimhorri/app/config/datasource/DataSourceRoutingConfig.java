@@ -0,0 +1,69 @@
+package com.selimhorri.app.config.datasource;
+
+import java.util.Map;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+public class DataSourceRoutingConfig {
+	
+	/**
+	 * Built the way DataSourceAutoConfiguration builds the default pool, so spring.datasource.hikari.*
+	 * keeps applying to the primary once this configuration replaces it.
+	 */
+	@Bean(autowireCandidate = false)
+	@ConfigurationProperties(prefix = "spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+		final var primary = dataSourceProperties.initializeDataSourceBuilder()
+				.type(HikariDataSource.class)
+				.build();
+		primary.setPoolName("primary-pool");
+		return primary;
+	}
+	
+	@Bean(autowireCandidate = false)
+	public HikariDataSource replicaDataSource(final DataSourceProperties dataSourceProperties, 
+			final ReplicaDataSourceProperties replicaDataSourceProperties) {
+		final var replica = DataSourceBuilder.create()
+				.type(HikariDataSource.class)
+				.driverClassName(dataSourceProperties.determineDriverClassName())
+				.url(replicaDataSourceProperties.getUrl())
+				.username(Optional.ofNullable(replicaDataSourceProperties.getUsername())
+						.orElseGet(dataSourceProperties::determineUsername))
+				.password(Optional.ofNullable(replicaDataSourceProperties.getPassword())
+						.orElseGet(dataSourceProperties::determinePassword))
+				.build();
+		replica.setPoolName("replica-pool");
+		replica.setMaximumPoolSize(replicaDataSourceProperties.getMaximumPoolSize());
+		replica.setReadOnly(true);
+		return replica;
+	}
+	
+	@Bean
+	@Primary
+	public DataSource dataSource(final DataSourceProperties dataSourceProperties, 
+			final ReplicaDataSourceProperties replicaDataSourceProperties) {
+		final var primary = this.primaryDataSource(dataSourceProperties);
+		final var routingDataSource = new ReadWriteRoutingDataSource();
+		routingDataSource.setTargetDataSources(Map.of(
+				ReadWriteRoutingDataSource.Route.PRIMARY, primary, 
+				ReadWriteRoutingDataSource.Route.REPLICA, this.replicaDataSource(dataSourceProperties, replicaDataSourceProperties)));
+		routingDataSource.setDefaultTargetDataSource(primary);
+		routingDataSource.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+	
+}
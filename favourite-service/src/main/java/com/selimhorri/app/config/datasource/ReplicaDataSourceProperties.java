@@ -0,0 +1,21 @@
+package com.selimhorri.app.config.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Read replica used for read-only transactions; username/password default to spring.datasource ones.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.datasource.replica")
+@Data
+public class ReplicaDataSourceProperties {
+	
+	private String url;
+	private String username;
+	private String password;
+	private int maximumPoolSize = 10;
+	
+}
@@ -0,0 +1,20 @@
+package com.selimhorri.app.config.executor;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.enrichment")
+@Data
+public class EnrichmentExecutorProperties {
+	
+	private int poolSize = 32;
+	private int queueCapacity = 512;
+	private int maxConcurrencyPerRequest = 8;
+	private Duration deadline = Duration.ofSeconds(5);
+	
+}
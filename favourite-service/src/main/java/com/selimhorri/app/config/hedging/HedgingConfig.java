@@ -0,0 +1,50 @@
+package com.selimhorri.app.config.hedging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+@Configuration
+public class HedgingConfig {
+	
+	/**
+	 * Places the hedging interceptor on every @LoadBalanced RestTemplate, right before the load balancer
+	 * interceptor (whichever initializer runs first) and after the tracing one, so trace headers are
+	 * already on the request it copies. Not a RestTemplateCustomizer bean: that would replace the
+	 * load balancer's own customizer.
+	 */
+	@Bean
+	public SmartInitializingSingleton hedgingRestTemplateInitializerBean(
+			@LoadBalanced final ObjectProvider<List<RestTemplate>> restTemplates, 
+			final RequestHedger requestHedger, final CloseableHttpClient httpClient) {
+		final var interceptor = new HedgingClientHttpRequestInterceptor(requestHedger, httpClient);
+		return () -> restTemplates.ifAvailable(templates -> templates.forEach(restTemplate -> {
+			final var interceptors = new ArrayList<>(restTemplate.getInterceptors());
+			int index = 0;
+			while (index < interceptors.size() && !(interceptors.get(index) instanceof LoadBalancerInterceptor))
+				index++;
+			interceptors.add(index, interceptor);
+			restTemplate.setInterceptors(interceptors);
+		}));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
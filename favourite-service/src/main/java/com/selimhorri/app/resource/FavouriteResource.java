@@ -2,9 +2,12 @@ package com.selimhorri.app.resource;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -68,6 +71,16 @@ public class FavouriteResource {
 		return ResponseEntity.ok(this.favouriteService.save(favouriteDto));
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> saveAll(
+			@RequestBody 
+			@NotEmpty(message = "Input must not be empty!") 
+			@Size(max = AppConstant.MAX_BULK_SAVE_SIZE, message = "Input must not exceed " + AppConstant.MAX_BULK_SAVE_SIZE + " elements!") 
+			@Valid final List<FavouriteDto> favouriteDtos) {
+		log.info("*** FavouriteDto List, resource; save favourites in batch *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.favouriteService.saveAll(favouriteDtos)));
+	}
+	
 	@PutMapping
 	public ResponseEntity<FavouriteDto> update(
 			@RequestBody 
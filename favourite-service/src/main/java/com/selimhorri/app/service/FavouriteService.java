@@ -10,6 +10,7 @@ public interface FavouriteService {
 	List<FavouriteDto> findAll();
 	FavouriteDto findById(final FavouriteId favouriteId);
 	FavouriteDto save(final FavouriteDto favouriteDto);
+	List<FavouriteDto> saveAll(final List<FavouriteDto> favouriteDtos);
 	FavouriteDto update(final FavouriteDto favouriteDto);
 	void deleteById(final FavouriteId favouriteId);
 	
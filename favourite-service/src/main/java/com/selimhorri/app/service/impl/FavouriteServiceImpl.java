@@ -1,18 +1,25 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
 
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.config.cache.RemoteEntityCache;
+import com.selimhorri.app.config.client.BatchLookupClient;
+import com.selimhorri.app.config.resilience.RemoteCallGuard;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 import com.selimhorri.app.helper.FavouriteMappingHelper;
 import com.selimhorri.app.repository.FavouriteRepository;
@@ -28,39 +35,56 @@ import lombok.extern.slf4j.Slf4j;
 public class FavouriteServiceImpl implements FavouriteService {
 	
 	private final FavouriteRepository favouriteRepository;
-	private final RestTemplate restTemplate;
+	private final EntityManager entityManager;
+	private final BatchLookupClient batchLookupClient;
+	private final RemoteEntityCache remoteEntityCache;
+	private final RemoteCallGuard remoteCallGuard;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<FavouriteDto> findAll() {
 		log.info("*** FavouriteDto List, service; fetch all favourites *");
-		return this.favouriteRepository.findAll()
+		final var favouriteDtos = this.favouriteRepository.findAll()
 				.stream()
 					.map(FavouriteMappingHelper::map)
-					.map(f -> {
-						f.setUserDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-						f.setProductDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
-						return f;
-					})
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
+		
+		final Map<Integer, UserDto> userDtos = this.batchLookupClient.findAllByIds(
+				AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL, 
+				favouriteDtos.stream().map(FavouriteDto::getUserId).collect(Collectors.toSet()), 
+				new ParameterizedTypeReference<DtoCollectionResponse<UserDto>>() {}, 
+				UserDto::getUserId);
+		final Map<Integer, ProductDto> productDtos = this.batchLookupClient.findAllByIds(
+				AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL, 
+				favouriteDtos.stream().map(FavouriteDto::getProductId).collect(Collectors.toSet()), 
+				new ParameterizedTypeReference<DtoCollectionResponse<ProductDto>>() {}, 
+				ProductDto::getProductId);
+		
+		return favouriteDtos.stream()
+				.map(f -> {
+					f.setUserDto(userDtos.getOrDefault(f.getUserId(), f.getUserDto()));
+					f.setProductDto(productDtos.getOrDefault(f.getProductId(), f.getProductDto()));
+					return f;
+				})
+				.collect(Collectors.toUnmodifiableList());
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public FavouriteDto findById(final FavouriteId favouriteId) {
 		log.info("*** FavouriteDto, service; fetch favourite by id *");
 		return this.favouriteRepository.findById(favouriteId)
 				.map(FavouriteMappingHelper::map)
 				.map(f -> {
-					f.setUserDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-					f.setProductDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
+					f.setUserDto(this.remoteCallGuard.call(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL, 
+							() -> this.remoteEntityCache.get(AppConstant.DiscoveredDomainsApi
+								.USER_SERVICE_API_URL, f.getUserId(), UserDto.class), 
+							throwable -> f.getUserDto()));
+					f.setProductDto(this.remoteCallGuard.call(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL, 
+							() -> this.remoteEntityCache.get(AppConstant.DiscoveredDomainsApi
+								.PRODUCT_SERVICE_API_URL, f.getProductId(), ProductDto.class), 
+							throwable -> f.getProductDto()));
 					return f;
 				})
 				.orElseThrow(() -> new FavouriteNotFoundException(
@@ -73,6 +97,26 @@ public class FavouriteServiceImpl implements FavouriteService {
 				.save(FavouriteMappingHelper.map(favouriteDto)));
 	}
 	
+	/**
+	 * Persists (never merges) the whole payload in one transaction, flushing every JDBC batch so that
+	 * inserts go out as batched statements and the persistence context stays bounded.
+	 */
+	@Override
+	public List<FavouriteDto> saveAll(final List<FavouriteDto> favouriteDtos) {
+		log.info("*** FavouriteDto List, service; save favourites in batch *");
+		final List<FavouriteDto> saved = new ArrayList<>(favouriteDtos.size());
+		for (int i = 0; i < favouriteDtos.size(); i++) {
+			final var favourite = FavouriteMappingHelper.map(favouriteDtos.get(i));
+			this.entityManager.persist(favourite);
+			saved.add(FavouriteMappingHelper.map(favourite));
+			if ((i + 1) % AppConstant.JDBC_BATCH_SIZE == 0) {
+				this.entityManager.flush();
+				this.entityManager.clear();
+			}
+		}
+		return saved;
+	}
+	
 	@Override
 	public FavouriteDto update(final FavouriteDto favouriteDto) {
 		return FavouriteMappingHelper.map(this.favouriteRepository
@@ -86,6 +130,7 @@ public class FavouriteServiceImpl implements FavouriteService {
 	
 	
 	
+	
 }
 
 
@@ -0,0 +1,150 @@
+package com.selimhorri.app.config.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read-through cache of DTOs fetched from other services, keyed by resource url ("apiUrl/id").
+ * The first caller of a missing id publishes an in-flight future and performs the remote call on
+ * its own thread; concurrent callers for the same id wait on that future instead of issuing
+ * another request. Failed or empty lookups are never cached.
+ */
+@Component
+@Slf4j
+public class RemoteEntityCache {
+	
+	private final RemoteEntityCacheProperties properties;
+	private final RestTemplate restTemplate;
+	private final AsyncCache<String, Object> cache;
+	private final Counter hits;
+	private final Counter misses;
+	
+	public RemoteEntityCache(final RemoteEntityCacheProperties properties, final RestTemplate restTemplate, 
+			final MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.restTemplate = restTemplate;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(properties.getMaximumSize())
+				.expireAfterWrite(properties.getTtl())
+				.buildAsync();
+		this.hits = meterRegistry.counter("remote.entity.cache.gets", "result", "hit");
+		this.misses = meterRegistry.counter("remote.entity.cache.gets", "result", "miss");
+		Gauge.builder("remote.entity.cache.size", this.cache, c -> c.synchronous().estimatedSize())
+				.register(meterRegistry);
+	}
+	
+	public <T> T get(final String apiUrl, final Integer id, final Class<T> type) {
+		final var key = apiUrl + "/" + id;
+		final var loading = new CompletableFuture<Object>();
+		final var inFlight = this.cache.asMap().putIfAbsent(key, loading);
+		if (inFlight != null) {
+			this.hits.increment();
+			try {
+				return type.cast(inFlight.get(this.properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS));
+			}
+			catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException)
+					throw (RuntimeException) e.getCause();
+				throw new IllegalStateException(e.getCause());
+			}
+			catch (TimeoutException e) {
+				throw new IllegalStateException(String.format("Timed out waiting for in-flight lookup of %s", key), e);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+		
+		this.misses.increment();
+		try {
+			final T value = this.restTemplate.getForObject(key, type);
+			loading.complete(value);
+			return value;
+		}
+		catch (RuntimeException e) {
+			loading.completeExceptionally(e);
+			throw e;
+		}
+	}
+	
+	/**
+	 * Bulk variant: only ids that are neither cached nor in flight are handed to the loader.
+	 * Ids the loader does not return, or whose in-flight lookup fails, are left out of the result.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Map<Integer, T> getAll(final String apiUrl, final Collection<Integer> ids, 
+			final Function<Set<Integer>, Map<Integer, T>> loader) {
+		
+		final Map<Integer, CompletableFuture<Object>> pending = new HashMap<>();
+		final Map<Integer, CompletableFuture<Object>> owned = new HashMap<>();
+		ids.stream()
+				.filter(Objects::nonNull)
+				.distinct()
+				.forEach(id -> {
+					final var loading = new CompletableFuture<Object>();
+					final var inFlight = this.cache.asMap().putIfAbsent(apiUrl + "/" + id, loading);
+					if (inFlight != null)
+						pending.put(id, inFlight);
+					else
+						owned.put(id, loading);
+				});
+		this.hits.increment(pending.size());
+		this.misses.increment(owned.size());
+		
+		final Map<Integer, T> result = new HashMap<>();
+		if (!owned.isEmpty()) {
+			try {
+				final Map<Integer, T> loaded = loader.apply(owned.keySet());
+				owned.forEach((id, loading) -> loading.complete(loaded.get(id)));
+				loaded.forEach((id, value) -> {
+					if (owned.containsKey(id) && value != null)
+						result.put(id, value);
+				});
+			}
+			catch (RuntimeException e) {
+				owned.values().forEach(loading -> loading.completeExceptionally(e));
+				throw e;
+			}
+		}
+		
+		final long deadline = System.nanoTime() + this.properties.getWaitTimeout().toNanos();
+		pending.forEach((id, inFlight) -> {
+			try {
+				final var value = inFlight.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				if (value != null)
+					result.put(id, (T) value);
+			}
+			catch (ExecutionException | TimeoutException e) {
+				log.warn("*** Remote lookup of {}/{} unavailable: {} *", apiUrl, id, e.toString());
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		
+		return Map.copyOf(result);
+	}
+	
+	
+	
+}
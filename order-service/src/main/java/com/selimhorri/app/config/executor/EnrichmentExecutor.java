@@ -0,0 +1,129 @@
+package com.selimhorri.app.config.executor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.sleuth.CurrentTraceContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs cross-service lookups concurrently on a bounded, trace-aware pool.
+ * Each call is capped at maxConcurrencyPerRequest in-flight lookups and waits at most
+ * for the configured deadline; keys still pending at the deadline are simply left out
+ * of the result so callers keep their un-enriched DTOs. A saturated pool rejects lanes
+ * instead of running them on the caller (which would ignore the deadline): the call goes
+ * on with the lanes it got, or returns nothing at all. Lanes still running at the deadline
+ * are cancelled; an in-flight socket read is not interruptible, so the HTTP client's read
+ * timeout must not exceed the deadline.
+ * On Java 21+ the pool can be swapped for Executors.newVirtualThreadPerTaskExecutor().
+ */
+@Component
+@Slf4j
+public class EnrichmentExecutor {
+	
+	private final EnrichmentExecutorProperties properties;
+	private final ThreadPoolExecutor threadPoolExecutor;
+	private final ExecutorService executorService;
+	
+	public EnrichmentExecutor(final EnrichmentExecutorProperties properties, 
+			final ObjectProvider<CurrentTraceContext> currentTraceContext) {
+		this.properties = properties;
+		this.threadPoolExecutor = new ThreadPoolExecutor(
+				properties.getPoolSize(), 
+				properties.getPoolSize(), 
+				60L, TimeUnit.SECONDS, 
+				new LinkedBlockingQueue<>(properties.getQueueCapacity()), 
+				new CustomizableThreadFactory("enrichment-"), 
+				new ThreadPoolExecutor.AbortPolicy());
+		this.threadPoolExecutor.allowCoreThreadTimeOut(true);
+		final var traceContext = currentTraceContext.getIfAvailable();
+		this.executorService = (traceContext != null) ? traceContext.wrap(this.threadPoolExecutor) : this.threadPoolExecutor;
+	}
+	
+	public <K, V> Map<K, V> fetchAll(final Collection<K> keys, final Function<K, V> fetcher) {
+		
+		final List<K> distinctKeys = keys.stream()
+				.filter(Objects::nonNull)
+				.distinct()
+				.collect(Collectors.toUnmodifiableList());
+		if (distinctKeys.isEmpty())
+			return Map.of();
+		
+		final Map<K, V> fetched = new ConcurrentHashMap<>();
+		final var cursor = new AtomicInteger();
+		final Runnable drain = () -> {
+			for (int i = cursor.getAndIncrement(); i < distinctKeys.size() && !Thread.currentThread().isInterrupted(); i = cursor.getAndIncrement()) {
+				final var key = distinctKeys.get(i);
+				final var value = fetcher.apply(key);
+				if (value != null)
+					fetched.put(key, value);
+			}
+		};
+		
+		final int wanted = Math.min(this.properties.getMaxConcurrencyPerRequest(), distinctKeys.size());
+		final List<Future<?>> lanes = new ArrayList<>(wanted);
+		try {
+			for (int lane = 0; lane < wanted; lane++)
+				lanes.add(this.executorService.submit(drain));
+		}
+		catch (RejectedExecutionException e) {
+			log.warn("*** Enrichment pool saturated; {}/{} lanes started *", lanes.size(), wanted);
+		}
+		if (lanes.isEmpty())
+			return Map.of();
+		
+		final long deadline = System.nanoTime() + this.properties.getDeadline().toNanos();
+		try {
+			for (final var lane : lanes)
+				lane.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException e) {
+			log.warn("*** Enrichment deadline of {} exceeded; {}/{} lookups completed *", 
+					this.properties.getDeadline(), fetched.size(), distinctKeys.size());
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException e) {
+			cursor.set(distinctKeys.size());
+			lanes.forEach(lane -> lane.cancel(true));
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new IllegalStateException(e.getCause());
+		}
+		
+		cursor.set(distinctKeys.size());
+		final var result = Map.copyOf(fetched);
+		lanes.forEach(lane -> lane.cancel(true));
+		return result;
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		this.threadPoolExecutor.shutdownNow();
+	}
+	
+	
+	
+}
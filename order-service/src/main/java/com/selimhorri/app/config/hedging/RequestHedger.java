@@ -0,0 +1,344 @@
+package com.selimhorri.app.config.hedging;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.sleuth.CurrentTraceContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hedged execution of idempotent GETs against a discovered service. The primary attempt goes to the
+ * instance picked by the load balancer; if it has not answered within the service's observed latency
+ * percentile, one more attempt goes to a different instance and the first success wins; a result the
+ * caller marks as failed (e.g. a 5xx) only wins when both attempts fail. The losing attempt is aborted
+ * through the AbortSignal it registered with, so its connection is released instead of read to the end.
+ * Hedges draw from a per-service budget refilled by maxHedgeRatio (at most 1) per primary request,
+ * so hedging can never more than double the load on a service; when no hedge could be sent anyway
+ * the primary attempt runs inline on the caller.
+ */
+@Component
+@Slf4j
+public class RequestHedger {
+	
+	private final HedgingProperties properties;
+	private final LoadBalancerClient loadBalancerClient;
+	private final DiscoveryClient discoveryClient;
+	private final MeterRegistry meterRegistry;
+	private final ThreadPoolExecutor threadPoolExecutor;
+	private final ExecutorService executorService;
+	private final Map<String, ServiceStats> serviceStats = new ConcurrentHashMap<>();
+	
+	public RequestHedger(final HedgingProperties properties, final LoadBalancerClient loadBalancerClient, 
+			final DiscoveryClient discoveryClient, final MeterRegistry meterRegistry, 
+			final ObjectProvider<CurrentTraceContext> currentTraceContext) {
+		this.properties = properties;
+		this.loadBalancerClient = loadBalancerClient;
+		this.discoveryClient = discoveryClient;
+		this.meterRegistry = meterRegistry;
+		this.threadPoolExecutor = new ThreadPoolExecutor(
+				0, 
+				properties.getPoolSize(), 
+				60L, TimeUnit.SECONDS, 
+				new SynchronousQueue<>(), 
+				new CustomizableThreadFactory("hedging-"), 
+				new ThreadPoolExecutor.AbortPolicy());
+		final var traceContext = currentTraceContext.getIfAvailable();
+		this.executorService = (traceContext != null) ? traceContext.wrap(this.threadPoolExecutor) : this.threadPoolExecutor;
+	}
+	
+	public boolean isHedgeable(final String method, final URI uri) {
+		return this.properties.isEnabled() 
+				&& "GET".equals(method) 
+				&& uri.getHost() != null 
+				&& (this.properties.getServices().isEmpty() || this.properties.getServices().stream()
+						.anyMatch(serviceId -> serviceId.equalsIgnoreCase(uri.getHost())));
+	}
+	
+	/**
+	 * The attempt must fully consume and release its response, since the losing attempt is discarded.
+	 */
+	public <T> T execute(final String serviceId, final URI uri, final Attempt<T> attempt, 
+			final Predicate<? super T> failed) throws IOException {
+		
+		final var primary = this.loadBalancerClient.choose(serviceId);
+		if (primary == null)
+			throw new IllegalStateException("No instances available for " + serviceId);
+		
+		final var stats = this.serviceStats.computeIfAbsent(serviceId.toLowerCase(), this::newServiceStats);
+		stats.deposit(Math.min(1.0, this.properties.getMaxHedgeRatio()), this.properties.getBudgetBurst());
+		
+		final var primaryUri = this.loadBalancerClient.reconstructURI(primary, uri);
+		final var alternate = this.alternateOf(serviceId, primary);
+		if (alternate == null || !stats.canWithdraw())
+			return this.timed(stats, attempt, primaryUri, new AbortSignal());
+		
+		final var primaryAbort = new AbortSignal();
+		final CompletableFuture<T> primaryFuture;
+		try {
+			primaryFuture = this.submit(stats, attempt, primaryUri, primaryAbort);
+		}
+		catch (RejectedExecutionException e) {
+			return this.timed(stats, attempt, primaryUri, primaryAbort);
+		}
+		
+		try {
+			return primaryFuture.get(this.hedgeDelay(stats).toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException e) {
+			log.debug("*** Primary attempt to {} exceeded hedge delay *", serviceId);
+		}
+		catch (ExecutionException e) {
+			throw unwrap(e.getCause());
+		}
+		catch (InterruptedException e) {
+			primaryAbort.abort();
+			return interrupted(primaryFuture);
+		}
+		
+		if (!stats.withdraw())
+			return this.await(primaryFuture, primaryAbort);
+		
+		final var hedgeAbort = new AbortSignal();
+		final CompletableFuture<T> hedgeFuture;
+		try {
+			hedgeFuture = this.submit(stats, attempt, this.loadBalancerClient.reconstructURI(alternate, uri), hedgeAbort);
+		}
+		catch (RejectedExecutionException e) {
+			return this.await(primaryFuture, primaryAbort);
+		}
+		stats.hedges.increment();
+		
+		final var winnerFuture = new CompletableFuture<CompletableFuture<T>>();
+		final var failedResult = new AtomicReference<CompletableFuture<T>>();
+		final var failures = new AtomicInteger();
+		for (final var attemptFuture : List.of(primaryFuture, hedgeFuture))
+			attemptFuture.whenComplete((result, throwable) -> {
+				if (throwable == null && !failed.test(result)) {
+					winnerFuture.complete(attemptFuture);
+					return;
+				}
+				if (throwable == null)
+					failedResult.set(attemptFuture);
+				if (failures.incrementAndGet() == 2) {
+					if (failedResult.get() != null)
+						winnerFuture.complete(failedResult.get());
+					else
+						winnerFuture.completeExceptionally(throwable);
+				}
+			});
+		
+		try {
+			final var winner = this.await(winnerFuture, new AbortSignal());
+			final var result = winner.join();
+			if (winner == hedgeFuture && !failed.test(result))
+				stats.hedgeWins.increment();
+			return result;
+		}
+		finally {
+			if (!primaryFuture.isDone())
+				primaryAbort.abort();
+			if (!hedgeFuture.isDone())
+				hedgeAbort.abort();
+		}
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		this.threadPoolExecutor.shutdownNow();
+	}
+	
+	private ServiceInstance alternateOf(final String serviceId, final ServiceInstance primary) {
+		final List<ServiceInstance> alternates = this.discoveryClient.getInstances(serviceId).stream()
+				.filter(instance -> !(Objects.equals(instance.getHost(), primary.getHost()) && instance.getPort() == primary.getPort()))
+				.collect(Collectors.toUnmodifiableList());
+		return alternates.isEmpty() ? null : alternates.get(ThreadLocalRandom.current().nextInt(alternates.size()));
+	}
+	
+	private Duration hedgeDelay(final ServiceStats stats) {
+		if (stats.latency.count() < this.properties.getMinSamples())
+			return this.properties.getInitialDelay();
+		for (final ValueAtPercentile valueAtPercentile : stats.latency.takeSnapshot().percentileValues()) {
+			if (valueAtPercentile.percentile() == this.properties.getDelayPercentile()) {
+				final var observed = Duration.ofNanos((long) valueAtPercentile.value(TimeUnit.NANOSECONDS));
+				if (observed.compareTo(this.properties.getMinDelay()) < 0)
+					return this.properties.getMinDelay();
+				return (observed.compareTo(this.properties.getMaxDelay()) > 0) ? this.properties.getMaxDelay() : observed;
+			}
+		}
+		return this.properties.getInitialDelay();
+	}
+	
+	private <T> CompletableFuture<T> submit(final ServiceStats stats, final Attempt<T> attempt, final URI uri, 
+			final AbortSignal abortSignal) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return this.timed(stats, attempt, uri, abortSignal);
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, this.executorService);
+	}
+	
+	private <T> T timed(final ServiceStats stats, final Attempt<T> attempt, final URI uri, 
+			final AbortSignal abortSignal) throws IOException {
+		final long start = System.nanoTime();
+		final var result = attempt.execute(uri, abortSignal);
+		stats.latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		return result;
+	}
+	
+	private <T> T await(final CompletableFuture<T> future, final AbortSignal abortSignal) throws IOException {
+		try {
+			return future.get();
+		}
+		catch (ExecutionException e) {
+			throw unwrap(e.getCause());
+		}
+		catch (InterruptedException e) {
+			abortSignal.abort();
+			return interrupted(future);
+		}
+	}
+	
+	private static <T> T interrupted(final CompletableFuture<T> future) throws InterruptedIOException {
+		future.cancel(true);
+		Thread.currentThread().interrupt();
+		throw new InterruptedIOException("Interrupted while waiting for hedged request");
+	}
+	
+	private static IOException unwrap(final Throwable throwable) {
+		if (throwable instanceof UncheckedIOException)
+			return ((UncheckedIOException) throwable).getCause();
+		if (throwable instanceof IOException)
+			return (IOException) throwable;
+		if (throwable instanceof RuntimeException)
+			throw (RuntimeException) throwable;
+		if (throwable instanceof Error)
+			throw (Error) throwable;
+		return new IOException(throwable);
+	}
+	
+	private ServiceStats newServiceStats(final String serviceId) {
+		return new ServiceStats(
+				Timer.builder("http.client.hedging.latency")
+						.tag("service", serviceId)
+						.publishPercentiles(this.properties.getDelayPercentile())
+						.register(this.meterRegistry), 
+				this.meterRegistry.counter("http.client.hedging.hedges", "service", serviceId, "result", "sent"), 
+				this.meterRegistry.counter("http.client.hedging.hedges", "service", serviceId, "result", "won"));
+	}
+	
+	@FunctionalInterface
+	public interface Attempt<T> {
+		T execute(final URI uri, final AbortSignal abortSignal) throws IOException;
+	}
+	
+	/**
+	 * Lets an attempt register how to abort its exchange (e.g. HttpUriRequest::abort); fired by the 
+	 * hedger on the attempt that lost, or right away if the attempt registers after losing.
+	 */
+	public static final class AbortSignal {
+		
+		private Runnable action;
+		private boolean aborted;
+		
+		public void onAbort(final Runnable action) {
+			synchronized (this) {
+				if (!this.aborted) {
+					this.action = action;
+					return;
+				}
+			}
+			action.run();
+		}
+		
+		private void abort() {
+			final Runnable registered;
+			synchronized (this) {
+				if (this.aborted)
+					return;
+				this.aborted = true;
+				registered = this.action;
+			}
+			if (registered != null)
+				registered.run();
+		}
+		
+	}
+	
+	private static final class ServiceStats {
+		
+		private final Timer latency;
+		private final Counter hedges;
+		private final Counter hedgeWins;
+		private double budget;
+		
+		private ServiceStats(final Timer latency, final Counter hedges, final Counter hedgeWins) {
+			this.latency = latency;
+			this.hedges = hedges;
+			this.hedgeWins = hedgeWins;
+		}
+		
+		private synchronized void deposit(final double amount, final int burst) {
+			this.budget = Math.min(burst, this.budget + amount);
+		}
+		
+		private synchronized boolean canWithdraw() {
+			return this.budget >= 1.0;
+		}
+		
+		private synchronized boolean withdraw() {
+			if (this.budget < 1.0)
+				return false;
+			this.budget -= 1.0;
+			return true;
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,39 @@
+package com.selimhorri.app.config.outbox;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.dto.OrderEventDto;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "transport", havingValue = "http", matchIfMissing = true)
+@RequiredArgsConstructor
+public class HttpOrderEventTransport implements OrderEventTransport {
+	
+	private final RestTemplate restTemplate;
+	private final OutboxProperties properties;
+	
+	@Override
+	public void send(final List<OrderEventDto> orderEventDtos) {
+		this.properties.getSubscribers()
+				.forEach(subscriber -> this.restTemplate.postForEntity(subscriber, orderEventDtos, Void.class));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,46 @@
+package com.selimhorri.app.config.outbox;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.dto.OrderEventDto;
+
+/**
+ * Stand-in transport that keeps delivered events in memory, for tests and single-node setups
+ * where no subscriber is reachable.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "transport", havingValue = "in-process")
+public class InProcessOrderEventTransport implements OrderEventTransport {
+	
+	private final List<OrderEventDto> deliveredEvents = new CopyOnWriteArrayList<>();
+	
+	@Override
+	public void send(final List<OrderEventDto> orderEventDtos) {
+		this.deliveredEvents.addAll(orderEventDtos);
+	}
+	
+	public List<OrderEventDto> getDeliveredEvents() {
+		return List.copyOf(this.deliveredEvents);
+	}
+	
+	public void clear() {
+		this.deliveredEvents.clear();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
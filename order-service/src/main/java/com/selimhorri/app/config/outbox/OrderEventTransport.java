@@ -0,0 +1,26 @@
+package com.selimhorri.app.config.outbox;
+
+import java.util.List;
+
+import com.selimhorri.app.dto.OrderEventDto;
+
+/**
+ * Delivers a batch of order events to every subscriber; selected with app.outbox.transport.
+ * Throwing leaves the batch unpublished so that the next poll retries it (at-least-once),
+ * subscribers therefore skip events whose order version is not newer than the one they last applied.
+ */
+public interface OrderEventTransport {
+	
+	void send(final List<OrderEventDto> orderEventDtos);
+	
+}
+
+
+
+
+
+
+
+
+
+
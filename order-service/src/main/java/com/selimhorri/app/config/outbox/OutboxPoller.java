@@ -0,0 +1,56 @@
+package com.selimhorri.app.config.outbox;
+
+import java.time.Instant;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.service.OutboxService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@EnableScheduling
+@ConditionalOnProperty(prefix = "app.outbox", name = "poller-enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxPoller {
+	
+	private final OutboxService outboxService;
+	private final OutboxProperties properties;
+	
+	@Scheduled(fixedDelayString = "${app.outbox.poll-interval:1s}")
+	public void poll() {
+		try {
+			int dispatched;
+			do {
+				dispatched = this.outboxService.dispatchPending();
+			}
+			while (dispatched == this.properties.getBatchSize());
+		}
+		catch (RuntimeException e) {
+			log.warn("*** Outbox dispatch failed, retrying on next poll: {} *", e.getMessage());
+		}
+	}
+	
+	@Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1M")
+	public void purge() {
+		this.outboxService.purgePublishedBefore(Instant.now().minus(this.properties.getRetention()));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
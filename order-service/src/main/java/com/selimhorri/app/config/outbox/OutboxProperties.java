@@ -0,0 +1,36 @@
+package com.selimhorri.app.config.outbox;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.constant.AppConstant;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+@Data
+public class OutboxProperties {
+	
+	private boolean pollerEnabled = true;
+	private Duration pollInterval = Duration.ofSeconds(1);
+	private int batchSize = 100;
+	private Duration retention = Duration.ofDays(7);
+	private List<String> subscribers = List.of(
+			AppConstant.DiscoveredDomainsApi.PAYMENT_SERVICE_HOST + "/api/order-events", 
+			AppConstant.DiscoveredDomainsApi.SHIPPING_SERVICE_HOST + "/api/order-events");
+	
+}
+
+
+
+
+
+
+
+
+
+
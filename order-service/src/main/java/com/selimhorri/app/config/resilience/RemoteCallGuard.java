@@ -0,0 +1,116 @@
+package com.selimhorri.app.config.resilience;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.sleuth.CurrentTraceContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Single choke point for blocking calls to other services. The dependency is the service id in
+ * the api url (e.g. "user-service") and selects the resilience4j thread-pool-bulkhead, timelimiter
+ * and circuitbreaker instances of the same name. The call runs on a bulkhead thread inside the caller's
+ * trace context, so it stays part of the request's trace.
+ */
+@Component
+@Slf4j
+public class RemoteCallGuard {
+	
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+	private final ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry;
+	private final TimeLimiterRegistry timeLimiterRegistry;
+	private final ScheduledExecutorService timeoutScheduler;
+	private final CurrentTraceContext currentTraceContext;
+	
+	public RemoteCallGuard(final CircuitBreakerRegistry circuitBreakerRegistry, 
+			final ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry, final TimeLimiterRegistry timeLimiterRegistry, 
+			final ObjectProvider<CurrentTraceContext> currentTraceContext) {
+		this.circuitBreakerRegistry = circuitBreakerRegistry;
+		this.threadPoolBulkheadRegistry = threadPoolBulkheadRegistry;
+		this.timeLimiterRegistry = timeLimiterRegistry;
+		this.currentTraceContext = currentTraceContext.getIfAvailable();
+		this.timeoutScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("remote-call-timeout-"));
+	}
+	
+	/**
+	 * Runs an idempotent read on the dependency's bulkhead pool, so the request thread waits at most
+	 * the time limit. A full bulkhead, an open circuit, a timeout or a failure resolve to the fallback.
+	 * cancel-running-future cannot interrupt a blocking socket read: a call abandoned at the time limit
+	 * keeps its bulkhead thread (and pooled connection) until app.http-client.read-timeout expires, so the
+	 * bulkhead's max-thread-pool-size has to absorb read-timeout / timeout-duration times the call rate.
+	 */
+	public <T> T call(final String apiUrl, final Supplier<T> call, final Function<Throwable, T> fallback) {
+		final var dependency = dependencyOf(apiUrl);
+		final var bulkhead = this.threadPoolBulkheadRegistry.bulkhead(dependency);
+		final var timeLimiter = this.timeLimiterRegistry.timeLimiter(dependency);
+		final var circuitBreaker = this.circuitBreakerRegistry.circuitBreaker(dependency);
+		
+		CompletableFuture<T> future;
+		try {
+			future = circuitBreaker.decorateCompletionStage(
+					timeLimiter.decorateCompletionStage(this.timeoutScheduler, bulkhead.decorateSupplier(this.inCurrentTrace(call))))
+				.get()
+				.toCompletableFuture();
+		}
+		catch (RuntimeException e) {
+			future = CompletableFuture.failedFuture(e);
+		}
+		
+		return future.handle((result, throwable) -> {
+			if (throwable == null)
+				return result;
+			final var cause = (throwable instanceof CompletionException || throwable instanceof ExecutionException) 
+					&& throwable.getCause() != null ? throwable.getCause() : throwable;
+			log.warn("*** Remote call to {} degraded: {} *", dependency, cause.toString());
+			return fallback.apply(cause);
+		}).join();
+	}
+	
+	private <T> Supplier<T> inCurrentTrace(final Supplier<T> call) {
+		if (this.currentTraceContext == null)
+			return call;
+		final var traceContext = this.currentTraceContext.context();
+		return () -> {
+			try (final var scope = this.currentTraceContext.maybeScope(traceContext)) {
+				return call.get();
+			}
+		};
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		this.timeoutScheduler.shutdownNow();
+	}
+	
+	private static String dependencyOf(final String apiUrl) {
+		return URI.create(apiUrl).getHost().toLowerCase(Locale.ROOT);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
@@ -10,6 +10,13 @@ public abstract class AppConstant {
 	public static final String LOCAL_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String ZONED_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String INSTANT_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
+	public static final int DEFAULT_PAGE_LIMIT = 50;
+	public static final int MAX_PAGE_LIMIT = 500;
+	public static final int EXPORT_FETCH_SIZE = 500;
+	public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+	public static final int BATCH_LOOKUP_SIZE = 200;
+	public static final int JDBC_BATCH_SIZE = 50;
+	public static final int MAX_BULK_SAVE_SIZE = 5_000;
 	
 	@NoArgsConstructor(access = AccessLevel.PRIVATE)
 	public abstract class DiscoveredDomainsApi {
@@ -16,6 +16,7 @@ import javax.persistence.Table;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonFormat.Shape;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -58,7 +59,15 @@ public final class Order extends AbstractMappedEntity implements Serializable {
 	@Column(name = "order_fee", columnDefinition = "decimal")
 	private Double orderFee;
 	
-	@ManyToOne(fetch = FetchType.EAGER)
+	/**
+	 * Per-order event counter, bumped only by {@link com.selimhorri.app.repository.OrderRepository#incrementEventVersion}
+	 * under the row lock of the change it describes, so it increases in commit order for each order.
+	 */
+	@JsonIgnore
+	@Column(name = "event_version", insertable = false, updatable = false, columnDefinition = "bigint default 0 not null")
+	private Long eventVersion;
+	
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "cart_id")
 	private Cart cart;
 	
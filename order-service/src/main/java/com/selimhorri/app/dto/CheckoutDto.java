@@ -0,0 +1,47 @@
+package com.selimhorri.app.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class CheckoutDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@JsonProperty("cart")
+	@NotNull(message = "Input must not be NULL")
+	private CartDto cartDto;
+	
+	@JsonProperty("order")
+	@NotNull(message = "Input must not be NULL")
+	private OrderDto orderDto;
+	
+	@JsonProperty("orderItems")
+	@NotEmpty(message = "Input must not be empty")
+	private List<@Valid OrderItemDto> orderItemDtos;
+	
+}
+
+
+
+
+
+
+
+
+
+
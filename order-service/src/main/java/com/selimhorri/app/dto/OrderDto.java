@@ -43,6 +43,17 @@ public class OrderDto implements Serializable {
 	@JsonInclude(Include.NON_NULL)
 	private CartDto cartDto;
 	
+	/**
+	 * Flat constructor for JPQL constructor expressions (read-only list queries).
+	 */
+	public OrderDto(final Integer orderId, final LocalDateTime orderDate, final String orderDesc, final Double orderFee, 
+			final Integer cartId) {
+		this(orderId, orderDate, orderDesc, orderFee, 
+				CartDto.builder()
+					.cartId(cartId)
+					.build());
+	}
+	
 }
 
 
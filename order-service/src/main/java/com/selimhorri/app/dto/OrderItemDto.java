@@ -0,0 +1,39 @@
+package com.selimhorri.app.dto;
+
+import java.io.Serializable;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class OrderItemDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@NotNull(message = "Input must not be NULL")
+	private Integer productId;
+	private Integer orderId;
+	
+	@NotNull(message = "Input must not be NULL")
+	@Positive(message = "Quantity must be positive")
+	private Integer orderedQuantity;
+	
+}
+
+
+
+
+
+
+
+
+
+
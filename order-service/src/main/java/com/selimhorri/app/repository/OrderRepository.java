@@ -1,11 +1,43 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Order;
+import com.selimhorri.app.dto.OrderDto;
 
 public interface OrderRepository extends JpaRepository<Order, Integer> {
 	
+	@Query("SELECT new com.selimhorri.app.dto.OrderDto(o.orderId, o.orderDate, o.orderDesc, o.orderFee, o.cart.cartId) "
+			+ "FROM Order o WHERE o.orderId > :orderId ORDER BY o.orderId")
+	List<OrderDto> findDtosByOrderIdGreaterThan(@Param("orderId") final Integer orderId, final Pageable pageable);
+	
+	@QueryHints({
+		@QueryHint(name = "org.hibernate.fetchSize", value = "" + AppConstant.EXPORT_FETCH_SIZE), 
+		@QueryHint(name = "org.hibernate.readOnly", value = "true")})
+	@Query("SELECT o FROM Order o ORDER BY o.orderId")
+	Stream<Order> streamAll();
+	
+	/**
+	 * Bumps the order's event version; the UPDATE holds the row lock until commit, so concurrent
+	 * changes to the same order get versions in the order they commit.
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Order o SET o.eventVersion = o.eventVersion + 1 WHERE o.orderId = :orderId")
+	int incrementEventVersion(@Param("orderId") final Integer orderId);
 	
+	@Query("SELECT o.eventVersion FROM Order o WHERE o.orderId = :orderId")
+	Optional<Long> findEventVersion(@Param("orderId") final Integer orderId);
 	
 }
@@ -0,0 +1,49 @@
+package com.selimhorri.app.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.selimhorri.app.domain.OutboxEvent;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+	
+	/**
+	 * Oldest unpublished events, locked with SKIP LOCKED (lock timeout -2) where the dialect supports it
+	 * so that several order-service instances can drain the outbox without dispatching the same rows.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+	@Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL ORDER BY e.eventId ASC")
+	List<OutboxEvent> findUnpublished(final Pageable pageable);
+	
+	@Modifying
+	@Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.eventId IN :eventIds")
+	int markPublished(@Param("eventIds") final Collection<Long> eventIds, @Param("publishedAt") final Instant publishedAt);
+	
+	@Modifying
+	@Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :publishedBefore")
+	int deletePublishedBefore(@Param("publishedBefore") final Instant publishedBefore);
+	
+}
+
+
+
+
+
+
+
+
+
+
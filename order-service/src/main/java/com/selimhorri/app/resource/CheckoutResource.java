@@ -0,0 +1,47 @@
+package com.selimhorri.app.resource;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.dto.CheckoutDto;
+import com.selimhorri.app.service.CheckoutService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/checkouts")
+@Slf4j
+@RequiredArgsConstructor
+public class CheckoutResource {
+	
+	private final CheckoutService checkoutService;
+	
+	@PostMapping
+	public ResponseEntity<CheckoutDto> checkout(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final CheckoutDto checkoutDto) {
+		log.info("*** CheckoutDto, resource; checkout *");
+		return ResponseEntity.ok(this.checkoutService.checkout(checkoutDto));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
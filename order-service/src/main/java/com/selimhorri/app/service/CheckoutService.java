@@ -0,0 +1,19 @@
+package com.selimhorri.app.service;
+
+import com.selimhorri.app.dto.CheckoutDto;
+
+public interface CheckoutService {
+	
+	CheckoutDto checkout(final CheckoutDto checkoutDto);
+	
+}
+
+
+
+
+
+
+
+
+
+
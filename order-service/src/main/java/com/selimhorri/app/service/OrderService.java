@@ -1,14 +1,18 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.OrderDto;
 
 public interface OrderService {
 	
 	List<OrderDto> findAll();
+	List<OrderDto> findAll(final Integer after, final int limit);
+	void exportAll(final Consumer<OrderDto> sink);
 	OrderDto findById(final Integer orderId);
 	OrderDto save(final OrderDto orderDto);
+	List<OrderDto> saveAll(final List<OrderDto> orderDtos);
 	OrderDto update(final OrderDto orderDto);
 	OrderDto update(final Integer orderId, final OrderDto orderDto);
 	void deleteById(final Integer orderId);
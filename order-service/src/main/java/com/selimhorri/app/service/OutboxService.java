@@ -0,0 +1,28 @@
+package com.selimhorri.app.service;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.selimhorri.app.domain.OrderEventType;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.OrderItemDto;
+
+public interface OutboxService {
+	
+	void append(final OrderEventType eventType, final Integer orderId, final OrderDto orderDto);
+	void append(final OrderEventType eventType, final Integer orderId, final OrderDto orderDto, 
+			final List<OrderItemDto> orderItemDtos);
+	int dispatchPending();
+	int purgePublishedBefore(final Instant publishedBefore);
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,16 +1,21 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.config.cache.RemoteEntityCache;
+import com.selimhorri.app.config.client.BatchLookupClient;
+import com.selimhorri.app.config.resilience.RemoteCallGuard;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CartNotFoundException;
 import com.selimhorri.app.helper.CartMappingHelper;
 import com.selimhorri.app.repository.CartRepository;
@@ -26,31 +31,42 @@ import lombok.extern.slf4j.Slf4j;
 public class CartServiceImpl implements CartService {
 	
 	private final CartRepository cartRepository;
-	private final RestTemplate restTemplate;
+	private final BatchLookupClient batchLookupClient;
+	private final RemoteEntityCache remoteEntityCache;
+	private final RemoteCallGuard remoteCallGuard;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<CartDto> findAll() {
 		log.info("*** CartDto List, service; fetch all carts *");
-		return this.cartRepository.findAll()
+		return this.withUserDtos(this.cartRepository.findAll()
 				.stream()
 					.map(CartMappingHelper::map)
-					.map(c -> {
-						c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
-						return c;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public List<CartDto> findAll(final Integer after, final int limit) {
+		log.info("*** CartDto List, service; fetch carts page *");
+		return this.withUserDtos(this.cartRepository.findAllByCartIdGreaterThanOrderByCartIdAsc((after != null) ? after : 0, PageRequest.of(0, limit))
+				.stream()
+					.map(CartMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()));
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public CartDto findById(final Integer cartId) {
 		log.info("*** CartDto, service; fetch cart by id *");
 		return this.cartRepository.findById(cartId)
 				.map(CartMappingHelper::map)
 				.map(c -> {
-					c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
+					c.setUserDto(this.remoteCallGuard.call(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL, 
+							() -> this.remoteEntityCache.get(AppConstant.DiscoveredDomainsApi
+								.USER_SERVICE_API_URL, c.getUserDto().getUserId(), UserDto.class), 
+							throwable -> c.getUserDto()));
 					return c;
 				})
 				.orElseThrow(() -> new CartNotFoundException(String
@@ -84,6 +100,22 @@ public class CartServiceImpl implements CartService {
 		this.cartRepository.deleteById(cartId);
 	}
 	
+	private List<CartDto> withUserDtos(final List<CartDto> cartDtos) {
+		final Map<Integer, UserDto> userDtos = this.batchLookupClient.findAllByIds(
+				AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL, 
+				cartDtos.stream().map(c -> c.getUserDto().getUserId()).collect(Collectors.toSet()), 
+				new ParameterizedTypeReference<DtoCollectionResponse<UserDto>>() {}, 
+				UserDto::getUserId);
+		
+		return cartDtos.stream()
+				.map(c -> {
+					c.setUserDto(userDtos.getOrDefault(c.getUserDto().getUserId(), c.getUserDto()));
+					return c;
+				})
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	
 	
 	
 }
@@ -0,0 +1,96 @@
+package com.selimhorri.app.service.impl;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.selimhorri.app.domain.Cart;
+import com.selimhorri.app.domain.Order;
+import com.selimhorri.app.domain.OrderEventType;
+import com.selimhorri.app.dto.CheckoutDto;
+import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.exception.wrapper.CartNotFoundException;
+import com.selimhorri.app.helper.CartMappingHelper;
+import com.selimhorri.app.helper.OrderMappingHelper;
+import com.selimhorri.app.repository.CartRepository;
+import com.selimhorri.app.service.CheckoutService;
+import com.selimhorri.app.service.OutboxService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Transactional
+@Slf4j
+@RequiredArgsConstructor
+public class CheckoutServiceImpl implements CheckoutService {
+	
+	private final CartRepository cartRepository;
+	private final EntityManager entityManager;
+	private final OutboxService outboxService;
+	
+	/**
+	 * Places cart and order in one local transaction and records an ORDER_PLACED outbox event,
+	 * carrying the line items, in that same transaction. When the outbox delivers it, shipping-service
+	 * stores the items and payment-service opens the NOT_STARTED payment, so neither is lost to a failed
+	 * call or a restart after commit, and nothing is written remotely for an order that rolls back.
+	 */
+	@Override
+	public CheckoutDto checkout(final CheckoutDto checkoutDto) {
+		log.info("*** CheckoutDto, service; checkout cart, order and orderItems *");
+		
+		final Cart cart = this.resolveCart(checkoutDto);
+		final var order = Order.builder()
+				.orderDate(checkoutDto.getOrderDto().getOrderDate())
+				.orderDesc(checkoutDto.getOrderDto().getOrderDesc())
+				.orderFee(checkoutDto.getOrderDto().getOrderFee())
+				.cart(cart)
+				.build();
+		this.entityManager.persist(order);
+		this.entityManager.flush();
+		
+		final Integer orderId = order.getOrderId();
+		final List<OrderItemDto> orderItemDtos = checkoutDto.getOrderItemDtos().stream()
+				.map(orderItemDto -> OrderItemDto.builder()
+						.productId(orderItemDto.getProductId())
+						.orderId(orderId)
+						.orderedQuantity(orderItemDto.getOrderedQuantity())
+						.build())
+				.collect(Collectors.toUnmodifiableList());
+		this.outboxService.append(OrderEventType.ORDER_PLACED, orderId, OrderMappingHelper.map(order), orderItemDtos);
+		
+		return CheckoutDto.builder()
+				.cartDto(CartMappingHelper.map(cart))
+				.orderDto(OrderMappingHelper.map(order))
+				.orderItemDtos(orderItemDtos)
+				.build();
+	}
+	
+	private Cart resolveCart(final CheckoutDto checkoutDto) {
+		final Integer cartId = checkoutDto.getCartDto().getCartId();
+		if (cartId != null)
+			return this.cartRepository.findById(cartId)
+					.orElseThrow(() -> new CartNotFoundException(String
+							.format("Cart with id: %d not found", cartId)));
+		final var cart = CartMappingHelper.map(checkoutDto.getCartDto());
+		this.entityManager.persist(cart);
+		return cart;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
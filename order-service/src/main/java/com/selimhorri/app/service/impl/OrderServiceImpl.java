@@ -1,17 +1,27 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Order;
+import com.selimhorri.app.domain.OrderEventType;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
 import com.selimhorri.app.helper.OrderMappingHelper;
 import com.selimhorri.app.repository.OrderRepository;
 import com.selimhorri.app.service.OrderService;
+import com.selimhorri.app.service.OutboxService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,8 +33,11 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderServiceImpl implements OrderService {
 	
 	private final OrderRepository orderRepository;
+	private final EntityManager entityManager;
+	private final OutboxService outboxService;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<OrderDto> findAll() {
 		log.info("*** OrderDto List, service; fetch all orders *");
 		return this.orderRepository.findAll()
@@ -35,6 +48,28 @@ public class OrderServiceImpl implements OrderService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
+	public List<OrderDto> findAll(final Integer after, final int limit) {
+		log.info("*** OrderDto List, service; fetch orders page *");
+		return List.copyOf(this.orderRepository.findDtosByOrderIdGreaterThan((after != null) ? after : 0, PageRequest.of(0, limit)));
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public void exportAll(final Consumer<OrderDto> sink) {
+		log.info("*** Void, service; export all orders *");
+		try (final Stream<Order> orders = this.orderRepository.streamAll()) {
+			final var rows = new AtomicInteger();
+			orders.forEach(order -> {
+				sink.accept(OrderMappingHelper.map(order));
+				if (rows.incrementAndGet() % AppConstant.EXPORT_FETCH_SIZE == 0)
+					this.entityManager.clear();
+			});
+		}
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
 	public OrderDto findById(final Integer orderId) {
 		log.info("*** OrderDto, service; fetch order by id *");
 		return this.orderRepository.findById(orderId)
@@ -46,28 +81,58 @@ public class OrderServiceImpl implements OrderService {
 	@Override
 	public OrderDto save(final OrderDto orderDto) {
 		log.info("*** OrderDto, service; save order *");
-		return OrderMappingHelper.map(this.orderRepository
-				.save(OrderMappingHelper.map(orderDto)));
+		return this.appendEvent(OrderEventType.ORDER_CREATED, OrderMappingHelper.map(this.orderRepository
+				.save(OrderMappingHelper.map(orderDto))));
+	}
+	
+	/**
+	 * Persists the given orders in one transaction, flushing and clearing the persistence context 
+	 * every {@link AppConstant#JDBC_BATCH_SIZE} rows; ids are always generated. Orders keep IDENTITY ids 
+	 * (the deployed MySQL schema uses AUTO_INCREMENT), so each order is inserted on persist rather than 
+	 * JDBC-batched.
+	 */
+	@Override
+	public List<OrderDto> saveAll(final List<OrderDto> orderDtos) {
+		log.info("*** OrderDto List, service; save orders in batch *");
+		final List<OrderDto> saved = new ArrayList<>(orderDtos.size());
+		for (int i = 0; i < orderDtos.size(); i++) {
+			final var order = OrderMappingHelper.map(orderDtos.get(i));
+			order.setOrderId(null);
+			this.entityManager.persist(order);
+			saved.add(this.appendEvent(OrderEventType.ORDER_CREATED, OrderMappingHelper.map(order)));
+			if ((i + 1) % AppConstant.JDBC_BATCH_SIZE == 0) {
+				this.entityManager.flush();
+				this.entityManager.clear();
+			}
+		}
+		return saved;
 	}
 	
 	@Override
 	public OrderDto update(final OrderDto orderDto) {
 		log.info("*** OrderDto, service; update order *");
-		return OrderMappingHelper.map(this.orderRepository
-				.save(OrderMappingHelper.map(orderDto)));
+		return this.appendEvent(OrderEventType.ORDER_UPDATED, OrderMappingHelper.map(this.orderRepository
+				.save(OrderMappingHelper.map(orderDto))));
 	}
 	
 	@Override
 	public OrderDto update(final Integer orderId, final OrderDto orderDto) {
 		log.info("*** OrderDto, service; update order with orderId *");
-		return OrderMappingHelper.map(this.orderRepository
-				.save(OrderMappingHelper.map(this.findById(orderId))));
+		return this.appendEvent(OrderEventType.ORDER_UPDATED, OrderMappingHelper.map(this.orderRepository
+				.save(OrderMappingHelper.map(this.findById(orderId)))));
 	}
 	
 	@Override
 	public void deleteById(final Integer orderId) {
 		log.info("*** Void, service; delete order by id *");
-		this.orderRepository.delete(OrderMappingHelper.map(this.findById(orderId)));
+		final var orderDto = this.findById(orderId);
+		this.outboxService.append(OrderEventType.ORDER_DELETED, orderId, null);
+		this.orderRepository.delete(OrderMappingHelper.map(orderDto));
+	}
+	
+	private OrderDto appendEvent(final OrderEventType eventType, final OrderDto orderDto) {
+		this.outboxService.append(eventType, orderDto.getOrderId(), orderDto);
+		return orderDto;
 	}
 	
 	
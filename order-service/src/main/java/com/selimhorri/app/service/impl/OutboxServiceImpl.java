@@ -0,0 +1,131 @@
+package com.selimhorri.app.service.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.config.outbox.OrderEventTransport;
+import com.selimhorri.app.config.outbox.OutboxProperties;
+import com.selimhorri.app.domain.OrderEventType;
+import com.selimhorri.app.domain.OutboxEvent;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.OrderEventDto;
+import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
+import com.selimhorri.app.repository.OrderRepository;
+import com.selimhorri.app.repository.OutboxEventRepository;
+import com.selimhorri.app.service.OutboxService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Transactional
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxServiceImpl implements OutboxService {
+	
+	private final OutboxEventRepository outboxEventRepository;
+	private final OrderRepository orderRepository;
+	private final OrderEventTransport orderEventTransport;
+	private final OutboxProperties properties;
+	private final ObjectMapper objectMapper;
+	
+	/**
+	 * Records the event in the caller's transaction, so it is published if and only if the
+	 * order change it describes commits. The event carries the order's next event version, which
+	 * subscribers compare instead of the event id: ids are only unique, not ordered per order.
+	 * Must be called while the order row still exists (i.e. before a delete).
+	 */
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void append(final OrderEventType eventType, final Integer orderId, final OrderDto orderDto) {
+		this.append(eventType, orderId, orderDto, List.of());
+	}
+	
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void append(final OrderEventType eventType, final Integer orderId, final OrderDto orderDto, 
+			final List<OrderItemDto> orderItemDtos) {
+		log.info("*** Void, service; append {} for order {} to outbox *", eventType, orderId);
+		try {
+			this.orderRepository.incrementEventVersion(orderId);
+			final Long orderVersion = this.orderRepository.findEventVersion(orderId)
+					.orElseThrow(() -> new OrderNotFoundException(String
+							.format("Order with id: %d not found", orderId)));
+			this.outboxEventRepository.save(OutboxEvent.builder()
+					.aggregateId(orderId)
+					.aggregateVersion(orderVersion)
+					.eventType(eventType)
+					.payload((orderDto != null) ? this.objectMapper.writer().writeValueAsString(OrderEventDto.builder()
+							.orderDto(orderDto)
+							.orderItemDtos(orderItemDtos)
+							.build()) : null)
+					.createdAt(Instant.now())
+					.build());
+		}
+		catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	@Override
+	public int dispatchPending() {
+		final List<OutboxEvent> outboxEvents = this.outboxEventRepository
+				.findUnpublished(PageRequest.of(0, this.properties.getBatchSize()));
+		if (outboxEvents.isEmpty())
+			return 0;
+		
+		log.info("*** Integer, service; dispatch {} outbox events *", outboxEvents.size());
+		this.orderEventTransport.send(outboxEvents.stream()
+				.map(this::toOrderEventDto)
+				.collect(Collectors.toUnmodifiableList()));
+		this.outboxEventRepository.markPublished(outboxEvents.stream()
+				.map(OutboxEvent::getEventId)
+				.collect(Collectors.toUnmodifiableList()), Instant.now());
+		return outboxEvents.size();
+	}
+	
+	@Override
+	public int purgePublishedBefore(final Instant publishedBefore) {
+		log.info("*** Integer, service; purge outbox events published before {} *", publishedBefore);
+		return this.outboxEventRepository.deletePublishedBefore(publishedBefore);
+	}
+	
+	private OrderEventDto toOrderEventDto(final OutboxEvent outboxEvent) {
+		try {
+			final var orderEventDto = (outboxEvent.getPayload() != null) ? 
+					this.objectMapper.readValue(outboxEvent.getPayload(), OrderEventDto.class) : new OrderEventDto();
+			orderEventDto.setEventId(outboxEvent.getEventId());
+			orderEventDto.setEventType(outboxEvent.getEventType());
+			orderEventDto.setOrderId(outboxEvent.getAggregateId());
+			orderEventDto.setOrderVersion(outboxEvent.getAggregateVersion());
+			return orderEventDto;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
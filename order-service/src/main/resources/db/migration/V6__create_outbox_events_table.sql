@@ -0,0 +1,13 @@
+
+CREATE TABLE outbox_events (
+	event_id BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT,
+	aggregate_id INT(11) NOT NULL,
+	aggregate_version BIGINT NOT NULL,
+	event_type VARCHAR(32) NOT NULL,
+	payload LONGTEXT,
+	created_at TIMESTAMP NOT NULL,
+	published_at TIMESTAMP NULL
+);
+
+CREATE INDEX outbox_events_published_at_idx ON outbox_events (published_at, event_id);
+
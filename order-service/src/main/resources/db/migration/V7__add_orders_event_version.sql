@@ -0,0 +1,3 @@
+
+ALTER TABLE orders ADD COLUMN event_version BIGINT DEFAULT 0 NOT NULL;
+
@@ -1,12 +1,22 @@
 package com.selimhorri.app;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,16 +27,30 @@ import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
 
+import com.selimhorri.app.config.outbox.InProcessOrderEventTransport;
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Cart;
 import com.selimhorri.app.domain.Order;
+import com.selimhorri.app.domain.OrderEventType;
 import com.selimhorri.app.dto.CartDto;
+import com.selimhorri.app.dto.CheckoutDto;
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.OrderEventDto;
+import com.selimhorri.app.dto.OrderItemDto;
 import com.selimhorri.app.repository.OrderRepository;
+import com.selimhorri.app.service.CheckoutService;
 import com.selimhorri.app.service.OrderService;
+import com.selimhorri.app.service.OutboxService;
 
 /**
  * Clase de pruebas completa para Order Service
@@ -47,9 +71,27 @@ public class OrderTests {
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CheckoutService checkoutService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private InProcessOrderEventTransport inProcessOrderEventTransport;
+
     @MockBean
     private OrderRepository orderRepository;
 
+    @MockBean
+    private RestTemplate remoteRestTemplate;
+
     private Order order1;
     private Order order2;
     private Cart cart1;
@@ -82,6 +124,9 @@ public class OrderTests {
                 .orderFee(250.00)
                 .cart(cart2)
                 .build();
+
+        // El outbox versiona cada evento con el contador de la orden (repositorio simulado)
+        when(orderRepository.findEventVersion(any())).thenReturn(Optional.of(1L));
     }
 
     // ==========================================
@@ -167,6 +212,109 @@ public class OrderTests {
         assertThat(result.getOrderFee()).isEqualTo(300.00);
     }
 
+    @Test
+    @DisplayName("Unit Test: Debe guardar órdenes en lote con ids generados cuando saveAll() es llamado")
+    void testSaveAllOrdersInBatch_Unit() {
+        // Arrange - El carrito debe existir para satisfacer la FK de orders
+        Cart persistedCart = transactionTemplate.execute(status -> {
+            Cart cart = Cart.builder().userId(1).build();
+            entityManager.persist(cart);
+            return cart;
+        });
+
+        List<OrderDto> orderDtos = IntStream.range(0, AppConstant.JDBC_BATCH_SIZE * 2 + 5)
+                .mapToObj(i -> OrderDto.builder()
+                        .orderId(i + 1)
+                        .orderDate(LocalDateTime.now())
+                        .orderDesc("Orden en lote " + i)
+                        .orderFee(10.00 + i)
+                        .cartDto(CartDto.builder().cartId(persistedCart.getCartId()).build())
+                        .build())
+                .collect(Collectors.toList());
+
+        // Act
+        List<OrderDto> result = orderService.saveAll(orderDtos);
+
+        // Assert - Los ids se generan siempre (IDENTITY)
+        assertThat(result).hasSize(orderDtos.size());
+        assertThat(result).extracting(OrderDto::getOrderId)
+                .doesNotContainNull()
+                .doesNotHaveDuplicates();
+        assertThat(result.get(0).getOrderDesc()).isEqualTo("Orden en lote 0");
+    }
+
+    @Test
+    @DisplayName("Unit Test: Debe crear carrito y orden en un solo checkout y registrar items y pago en el outbox")
+    void testCheckout_Unit() {
+        // Arrange
+        inProcessOrderEventTransport.clear();
+        CheckoutDto checkoutDto = CheckoutDto.builder()
+                .cartDto(CartDto.builder().userId(7).build())
+                .orderDto(OrderDto.builder()
+                        .orderDate(LocalDateTime.now())
+                        .orderDesc("Orden checkout")
+                        .orderFee(99.00)
+                        .build())
+                .orderItemDtos(List.of(
+                        OrderItemDto.builder().productId(1).orderedQuantity(2).build(),
+                        OrderItemDto.builder().productId(2).orderedQuantity(1).build()))
+                .build();
+
+        // Act
+        CheckoutDto result = checkoutService.checkout(checkoutDto);
+        int dispatched;
+        do {
+            dispatched = outboxService.dispatchPending();
+        }
+        while (dispatched > 0);
+
+        // Assert - Sin llamadas remotas en el checkout: un único evento ORDER_PLACED con los items
+        Integer orderId = result.getOrderDto().getOrderId();
+        assertThat(result.getCartDto().getCartId()).isNotNull();
+        assertThat(orderId).isNotNull();
+        assertThat(result.getOrderItemDtos()).extracting(OrderItemDto::getOrderId).containsOnly(orderId);
+        verify(remoteRestTemplate, never()).postForEntity(anyString(), any(), eq(Void.class));
+        assertThat(inProcessOrderEventTransport.getDeliveredEvents())
+                .filteredOn(event -> event.getOrderId().equals(orderId))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getEventType()).isEqualTo(OrderEventType.ORDER_PLACED);
+                    assertThat(event.getOrderItemDtos())
+                            .extracting(OrderItemDto::getProductId)
+                            .containsExactly(1, 2);
+                });
+    }
+
+    @Test
+    @DisplayName("Unit Test: Debe publicar el evento ORDER_CREATED desde el outbox tras save()")
+    void testSaveOrderPublishesOutboxEvent_Unit() {
+        // Arrange
+        when(orderRepository.save(any(Order.class))).thenReturn(order1);
+        inProcessOrderEventTransport.clear();
+
+        // Act - El evento se escribe en la transacción del save y el poller lo despacha
+        orderService.save(OrderDto.builder()
+                .orderDesc("Orden de prueba 1")
+                .cartDto(CartDto.builder().cartId(1).build())
+                .build());
+        int dispatched;
+        do {
+            dispatched = outboxService.dispatchPending();
+        }
+        while (dispatched > 0);
+
+        // Assert
+        assertThat(inProcessOrderEventTransport.getDeliveredEvents())
+                .filteredOn(event -> event.getOrderId().equals(1))
+                .extracting(OrderEventDto::getEventType)
+                .contains(OrderEventType.ORDER_CREATED);
+        assertThat(inProcessOrderEventTransport.getDeliveredEvents())
+                .filteredOn(event -> event.getOrderId().equals(1))
+                .extracting(OrderEventDto::getOrderVersion)
+                .containsOnly(1L);
+        assertThat(outboxService.dispatchPending()).isZero();
+    }
+
     // ==========================================
     // PRUEBAS DE INTEGRACIÓN
     // Usan @SpringBootTest con RANDOM_PORT y TestRestTemplate
@@ -199,6 +347,25 @@ public class OrderTests {
         assertThat(response.getBody()).containsAnyOf("items", "[", "]");  // Validar JSON array o wrapper
     }
 
+    @Test
+    @DisplayName("Integration Test: Debe exportar órdenes como NDJSON con Accept: application/x-ndjson")
+    void testExportOrdersAsNdjson_Integration() {
+        // Arrange
+        when(orderRepository.streamAll()).thenReturn(Stream.of(order1, order2));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.parseMediaType(AppConstant.APPLICATION_NDJSON_VALUE)));
+
+        // Act - Petición HTTP real en modo streaming
+        String url = "http://localhost:" + port + "/api/orders";
+        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        // Assert - Una línea JSON por orden
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString()).startsWith(AppConstant.APPLICATION_NDJSON_VALUE);
+        assertThat(response.getBody().split("\n")).hasSize(2);
+        assertThat(response.getBody()).contains("Orden de prueba 1", "Orden de prueba 2");
+    }
+
     @Test
     @DisplayName("Integration Test: Debe retornar 404 para orden inexistente")
     void testGetOrderById_Integration() {
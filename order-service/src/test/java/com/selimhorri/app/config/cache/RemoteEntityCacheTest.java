@@ -0,0 +1,128 @@
+package com.selimhorri.app.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.dto.UserDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Pruebas Unitarias para RemoteEntityCache
+ * - Sin contexto de Spring: verifica memoización, coalescencia de peticiones y carga parcial por lote
+ */
+@DisplayName("RemoteEntityCache - Unit Tests")
+class RemoteEntityCacheTest {
+
+    private static final String USERS_URL = "http://USER-SERVICE/user-service/api/users";
+
+    private RestTemplate restTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private RemoteEntityCache remoteEntityCache;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        remoteEntityCache = new RemoteEntityCache(new RemoteEntityCacheProperties(), restTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("get() - Debe llamar al servicio remoto una sola vez para el mismo id")
+    void testGet_ShouldMemoizeRemoteLookups() {
+        // Arrange
+        when(restTemplate.getForObject(USERS_URL + "/1", UserDto.class)).thenReturn(UserDto.builder().userId(1).build());
+
+        // Act
+        UserDto first = remoteEntityCache.get(USERS_URL, 1, UserDto.class);
+        UserDto second = remoteEntityCache.get(USERS_URL, 1, UserDto.class);
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        verify(restTemplate, times(1)).getForObject(USERS_URL + "/1", UserDto.class);
+        assertThat(meterRegistry.counter("remote.entity.cache.gets", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("get() - Peticiones concurrentes para el mismo id deben compartir una sola llamada")
+    void testGet_ShouldCoalesceConcurrentMisses() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(restTemplate.getForObject(USERS_URL + "/7", UserDto.class)).thenAnswer(invocation -> {
+            calls.incrementAndGet();
+            release.await(2, TimeUnit.SECONDS);
+            return UserDto.builder().userId(7).build();
+        });
+
+        // Act
+        CompletableFuture<UserDto> first = CompletableFuture.supplyAsync(() -> remoteEntityCache.get(USERS_URL, 7, UserDto.class));
+        CompletableFuture<UserDto> second = CompletableFuture.supplyAsync(() -> remoteEntityCache.get(USERS_URL, 7, UserDto.class));
+        Thread.sleep(100);
+        release.countDown();
+
+        // Assert
+        assertThat(first.get(2, TimeUnit.SECONDS).getUserId()).isEqualTo(7);
+        assertThat(second.get(2, TimeUnit.SECONDS).getUserId()).isEqualTo(7);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get() - Los fallos no deben quedar en caché")
+    void testGet_ShouldNotCacheFailures() {
+        // Arrange
+        when(restTemplate.getForObject(anyString(), eq(UserDto.class)))
+                .thenThrow(new RestClientException("down"))
+                .thenReturn(UserDto.builder().userId(3).build());
+
+        // Act & Assert
+        assertThatThrownBy(() -> remoteEntityCache.get(USERS_URL, 3, UserDto.class)).isInstanceOf(RestClientException.class);
+        assertThat(remoteEntityCache.get(USERS_URL, 3, UserDto.class).getUserId()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("getAll() - Solo debe cargar los ids que no están en caché")
+    void testGetAll_ShouldLoadOnlyMissingIds() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        remoteEntityCache.getAll(USERS_URL, Arrays.asList(1, 2), ids -> byId(ids, loads));
+
+        // Act
+        Map<Integer, UserDto> result = remoteEntityCache.getAll(USERS_URL, Arrays.asList(2, 3, null, 3),
+                ids -> {
+                    assertThat(ids).containsExactly(3);
+                    return byId(ids, loads);
+                });
+
+        // Assert
+        assertThat(result).containsOnlyKeys(2, 3);
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    private static Map<Integer, UserDto> byId(final Set<Integer> ids, final AtomicInteger loads) {
+        loads.addAndGet(ids.size());
+        return ids.stream().collect(Collectors.toMap(id -> id, id -> UserDto.builder().userId(id).build()));
+    }
+
+}
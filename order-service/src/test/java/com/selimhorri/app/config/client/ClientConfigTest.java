@@ -0,0 +1,112 @@
+package com.selimhorri.app.config.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Pruebas Unitarias para ClientConfig
+ * - Sin contexto de Spring: servidor HTTP local para verificar reutilización de conexiones,
+ *   timeout de lectura y métricas del pool
+ */
+@DisplayName("ClientConfig - Unit Tests")
+class ClientConfigTest {
+
+    private HttpServer server;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/fast", exchange -> {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(2000);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.setMaxPerRoute(4);
+        properties.setReadTimeout(Duration.ofMillis(300));
+        ClientConfig clientConfig = new ClientConfig();
+        connectionManager = clientConfig.poolingHttpClientConnectionManagerBean(properties);
+        httpClient = clientConfig.httpClientBean(connectionManager, properties);
+        restTemplate = clientConfig.restTemplateBean(httpClient);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("RestTemplate - Debe reutilizar una conexión keep-alive para llamadas secuenciales")
+    void testRestTemplate_ShouldReuseKeepAliveConnection() {
+        // Act
+        for (int i = 0; i < 5; i++)
+            assertThat(restTemplate.getForObject(baseUrl + "/fast", String.class)).isEqualTo("ok");
+
+        // Assert - Una sola conexión abierta y devuelta al pool
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+        assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+    }
+
+    @Test
+    @DisplayName("RestTemplate - Debe cortar la llamada al superar el read timeout")
+    void testRestTemplate_ShouldFailFastOnReadTimeout() {
+        // Act & Assert
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> restTemplate.getForObject(baseUrl + "/slow", String.class))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(1500));
+    }
+
+    @Test
+    @DisplayName("MeterBinder - Debe exponer las métricas del pool de conexiones")
+    void testPoolMetrics_ShouldBeRegistered() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // Act
+        new ClientConfig().httpClientPoolMetricsBean(connectionManager).bindTo(registry);
+
+        // Assert
+        assertThat(registry.get("httpcomponents.httpclient.pool.route.max.default").gauge().value()).isEqualTo(4);
+        assertThat(registry.get("httpcomponents.httpclient.pool.total.max").gauge().value()).isEqualTo(200);
+    }
+}
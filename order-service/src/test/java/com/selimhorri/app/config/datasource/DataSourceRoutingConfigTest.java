@@ -0,0 +1,87 @@
+package com.selimhorri.app.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Pruebas de Integración para DataSourceRoutingConfig
+ * - Contexto mínimo con dos bases H2 en memoria como primaria y réplica
+ */
+@DisplayName("DataSourceRoutingConfig - Integration Tests")
+class DataSourceRoutingConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    DataSourceAutoConfiguration.class,
+                    DataSourceTransactionManagerAutoConfiguration.class,
+                    TransactionAutoConfiguration.class))
+            .withUserConfiguration(DataSourceRoutingConfig.class, ReplicaDataSourceProperties.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+                    "spring.datasource.username=sa",
+                    "spring.datasource.password=",
+                    "spring.datasource.hikari.maximum-pool-size=3",
+                    "app.datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1");
+
+    @Test
+    @DisplayName("dataSource() - Una transacción readOnly debe ir a la réplica")
+    void testDataSource_ReadOnlyTransaction_ShouldRouteToReplica() {
+        contextRunner.run(context -> {
+            // Act
+            String url = connectionUrl(context, true);
+
+            // Assert
+            assertThat(url).contains("routing-replica");
+        });
+    }
+
+    @Test
+    @DisplayName("dataSource() - Una transacción de lectura-escritura debe ir a la primaria")
+    void testDataSource_ReadWriteTransaction_ShouldRouteToPrimary() {
+        contextRunner.run(context -> {
+            // Act
+            String url = connectionUrl(context, false);
+
+            // Assert
+            assertThat(url).contains("routing-primary");
+        });
+    }
+
+    @Test
+    @DisplayName("primaryDataSource() - spring.datasource.hikari.* debe seguir aplicando a la primaria")
+    void testPrimaryDataSource_ShouldBindHikariProperties() {
+        contextRunner.run(context -> {
+            // Act
+            HikariDataSource primary = context.getBean("primaryDataSource", HikariDataSource.class);
+
+            // Assert
+            assertThat(primary.getMaximumPoolSize()).isEqualTo(3);
+            assertThat(primary.getJdbcUrl()).contains("routing-primary");
+        });
+    }
+
+    private static String connectionUrl(final ApplicationContext context, final boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        return transactionTemplate.execute(status -> 
+                jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getURL()));
+    }
+
+}
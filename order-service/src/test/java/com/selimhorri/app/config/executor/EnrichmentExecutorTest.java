@@ -0,0 +1,168 @@
+package com.selimhorri.app.config.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cloud.sleuth.CurrentTraceContext;
+
+/**
+ * Pruebas Unitarias para EnrichmentExecutor
+ * - Sin contexto de Spring: verifica límite de concurrencia, deadline y deduplicación
+ */
+@DisplayName("EnrichmentExecutor - Unit Tests")
+class EnrichmentExecutorTest {
+
+    private EnrichmentExecutorProperties properties;
+    private EnrichmentExecutor enrichmentExecutor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EnrichmentExecutorProperties();
+        properties.setPoolSize(8);
+        properties.setMaxConcurrencyPerRequest(3);
+        properties.setDeadline(Duration.ofSeconds(2));
+        enrichmentExecutor = new EnrichmentExecutor(properties,
+                new DefaultListableBeanFactory().getBeanProvider(CurrentTraceContext.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        enrichmentExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("fetchAll() - Debe consultar cada clave una sola vez")
+    void testFetchAll_ShouldFetchEachDistinctKeyOnce() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        Map<Integer, String> result = enrichmentExecutor.fetchAll(Arrays.asList(1, 2, 2, 3, null, 1),
+                key -> {
+                    calls.incrementAndGet();
+                    return "user-" + key;
+                });
+
+        // Assert
+        assertThat(result).containsOnlyKeys(1, 2, 3);
+        assertThat(result.get(2)).isEqualTo("user-2");
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("fetchAll() - No debe superar el límite de concurrencia por petición")
+    void testFetchAll_ShouldRespectConcurrencyCap() {
+        // Arrange
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<Integer> keys = IntStream.rangeClosed(1, 20).boxed().collect(Collectors.toList());
+
+        // Act
+        Map<Integer, Integer> result = enrichmentExecutor.fetchAll(keys, key -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(20);
+            inFlight.decrementAndGet();
+            return key;
+        });
+
+        // Assert
+        assertThat(result).hasSize(20);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("fetchAll() - Debe retornar resultados parciales al vencer el deadline")
+    void testFetchAll_ShouldReturnPartialResults_WhenDeadlineExceeded() {
+        // Arrange
+        properties.setDeadline(Duration.ofMillis(200));
+
+        // Act
+        Map<Integer, String> result = enrichmentExecutor.fetchAll(Arrays.asList(1, 2), key -> {
+            if (key == 2)
+                sleep(2_000);
+            return "product-" + key;
+        });
+
+        // Assert
+        assertThat(result).containsOnlyKeys(1);
+    }
+
+    @Test
+    @DisplayName("fetchAll() - Con el pool saturado debe rechazar en vez de ejecutar en el hilo llamante")
+    void testFetchAll_ShouldNotRunOnCaller_WhenPoolSaturated() throws Exception {
+        // Arrange - Un solo hilo ocupado y la cola llena
+        enrichmentExecutor.shutdown();
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        properties.setMaxConcurrencyPerRequest(2);
+        enrichmentExecutor = new EnrichmentExecutor(properties,
+                new DefaultListableBeanFactory().getBeanProvider(CurrentTraceContext.class));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Map<Integer, Integer>> busy = CompletableFuture.supplyAsync(() ->
+                enrichmentExecutor.fetchAll(Arrays.asList(1, 2), key -> {
+                    started.countDown();
+                    await(release);
+                    return key;
+                }));
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+        Thread caller = Thread.currentThread();
+        AtomicInteger callerRuns = new AtomicInteger();
+
+        // Act
+        long start = System.nanoTime();
+        Map<Integer, Integer> result = enrichmentExecutor.fetchAll(Arrays.asList(3), key -> {
+            if (Thread.currentThread() == caller)
+                callerRuns.incrementAndGet();
+            return key;
+        });
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        // Assert - Sin enriquecer, sin esperar el deadline y sin usar el hilo llamante
+        assertThat(result).isEmpty();
+        assertThat(callerRuns).hasValue(0);
+        assertThat(elapsedMillis).isLessThan(properties.getDeadline().toMillis());
+        assertThat(busy.get(5, TimeUnit.SECONDS)).containsOnlyKeys(1, 2);
+    }
+
+    @Test
+    @DisplayName("fetchAll() - Debe propagar errores de la consulta remota")
+    void testFetchAll_ShouldPropagateFailures() {
+        assertThatThrownBy(() -> enrichmentExecutor.fetchAll(Arrays.asList(1), key -> {
+            throw new IllegalStateException("remote failure");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("remote failure");
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.selimhorri.app.config.hedging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerUriTools;
+import org.springframework.cloud.sleuth.CurrentTraceContext;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Pruebas Unitarias para RequestHedger
+ * - Sin contexto de Spring: balanceador y discovery simulados con dos instancias,
+ *   una lenta (primaria) y una rápida (alternativa)
+ */
+@DisplayName("RequestHedger - Unit Tests")
+class RequestHedgerTest {
+
+    private static final URI USER_URI = URI.create("http://USER-SERVICE/user-service/api/users/1");
+    private static final int SLOW_PORT = 8001;
+    private static final int FAST_PORT = 8002;
+
+    private HedgingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private RequestHedger requestHedger;
+    private final AtomicInteger fastAttempts = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ServiceInstance slow = new DefaultServiceInstance("user-1", "USER-SERVICE", "localhost", SLOW_PORT, false);
+        ServiceInstance fast = new DefaultServiceInstance("user-2", "USER-SERVICE", "localhost", FAST_PORT, false);
+
+        LoadBalancerClient loadBalancerClient = mock(LoadBalancerClient.class);
+        when(loadBalancerClient.choose("USER-SERVICE")).thenReturn(slow);
+        when(loadBalancerClient.reconstructURI(any(), any())).thenAnswer(invocation ->
+                LoadBalancerUriTools.reconstructURI(invocation.getArgument(0), invocation.getArgument(1)));
+        DiscoveryClient discoveryClient = mock(DiscoveryClient.class);
+        when(discoveryClient.getInstances("USER-SERVICE")).thenReturn(List.of(slow, fast));
+
+        properties = new HedgingProperties();
+        properties.setEnabled(true);
+        properties.setServices(List.of("USER-SERVICE"));
+        properties.setInitialDelay(Duration.ofMillis(50));
+        properties.setMaxHedgeRatio(1.0);
+        meterRegistry = new SimpleMeterRegistry();
+        requestHedger = new RequestHedger(properties, loadBalancerClient, discoveryClient, meterRegistry,
+                mock(ObjectProvider.class, invocation -> null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        requestHedger.shutdown();
+    }
+
+    @Test
+    @DisplayName("Solo GET hacia servicios configurados es candidato a hedging")
+    void testIsHedgeable() {
+        assertThat(requestHedger.isHedgeable("GET", USER_URI)).isTrue();
+        assertThat(requestHedger.isHedgeable("POST", USER_URI)).isFalse();
+        assertThat(requestHedger.isHedgeable("GET", URI.create("http://PRODUCT-SERVICE/product-service/api/products"))).isFalse();
+
+        properties.setEnabled(false);
+        assertThat(requestHedger.isHedgeable("GET", USER_URI)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Instancia primaria lenta: la petición duplicada a otra instancia gana")
+    void testExecute_HedgeToOtherInstanceWins() throws Exception {
+        long start = System.nanoTime();
+
+        Integer port = requestHedger.execute("USER-SERVICE", USER_URI, this::attempt, result -> false);
+
+        assertThat(port).isEqualTo(FAST_PORT);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(1000));
+        assertThat(meterRegistry.get("http.client.hedging.hedges").tag("result", "sent").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("http.client.hedging.hedges").tag("result", "won").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Sin presupuesto no se envía petición duplicada y la primaria corre en el hilo llamante")
+    void testExecute_NoBudgetRunsPrimaryInline() throws Exception {
+        properties.setMaxHedgeRatio(0.0);
+        Thread caller = Thread.currentThread();
+        AtomicReference<Thread> attemptThread = new AtomicReference<>();
+
+        Integer port = requestHedger.execute("USER-SERVICE", USER_URI, (uri, abortSignal) -> {
+            attemptThread.set(Thread.currentThread());
+            return attempt(uri, abortSignal);
+        }, result -> false);
+
+        assertThat(port).isEqualTo(SLOW_PORT);
+        assertThat(fastAttempts.get()).isZero();
+        assertThat(attemptThread.get()).isSameAs(caller);
+    }
+
+    @Test
+    @DisplayName("Una respuesta 5xx rápida no gana frente a una respuesta correcta más lenta")
+    void testExecute_ServerErrorDoesNotWin() throws Exception {
+        Integer status = requestHedger.execute("USER-SERVICE", USER_URI, (uri, abortSignal) -> {
+            if (uri.getPort() == FAST_PORT)
+                return 503;
+            sleep(300);
+            return 200;
+        }, result -> result >= 500);
+
+        assertThat(status).isEqualTo(200);
+        assertThat(meterRegistry.get("http.client.hedging.hedges").tag("result", "won").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Si ambas respuestas son 5xx se devuelve una de ellas en lugar de fallar")
+    void testExecute_BothServerErrorsReturnResponse() throws Exception {
+        Integer status = requestHedger.execute("USER-SERVICE", USER_URI, (uri, abortSignal) -> {
+            if (uri.getPort() == SLOW_PORT)
+                sleep(300);
+            return 502;
+        }, result -> result >= 500);
+
+        assertThat(status).isEqualTo(502);
+    }
+
+    @Test
+    @DisplayName("La petición perdedora se aborta cuando gana la duplicada")
+    void testExecute_LosingAttemptIsAborted() throws Exception {
+        CountDownLatch aborted = new CountDownLatch(1);
+
+        Integer port = requestHedger.execute("USER-SERVICE", USER_URI, (uri, abortSignal) -> {
+            if (uri.getPort() == SLOW_PORT)
+                abortSignal.onAbort(aborted::countDown);
+            return attempt(uri, abortSignal);
+        }, result -> false);
+
+        assertThat(port).isEqualTo(FAST_PORT);
+        assertThat(aborted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private Integer attempt(URI uri, RequestHedger.AbortSignal abortSignal) {
+        if (uri.getPort() == FAST_PORT) {
+            fastAttempts.incrementAndGet();
+            return FAST_PORT;
+        }
+        sleep(1500);
+        return uri.getPort();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.selimhorri.app.config.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.sleuth.CurrentTraceContext;
+import org.springframework.cloud.sleuth.TraceContext;
+
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+
+/**
+ * Pruebas Unitarias para RemoteCallGuard
+ * - Sin contexto de Spring: registros de resilience4j en memoria para verificar
+ *   timeout y circuito abierto
+ */
+@DisplayName("RemoteCallGuard - Unit Tests")
+class RemoteCallGuardTest {
+
+    private static final String USER_SERVICE_API_URL = "http://USER-SERVICE/user-service/api/users";
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private RemoteCallGuard remoteCallGuard;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .minimumNumberOfCalls(2)
+                .slidingWindowSize(2)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build());
+        remoteCallGuard = new RemoteCallGuard(
+                circuitBreakerRegistry,
+                ThreadPoolBulkheadRegistry.ofDefaults(),
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                        .timeoutDuration(Duration.ofMillis(200))
+                        .build()),
+                mock(ObjectProvider.class, invocation -> null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        remoteCallGuard.shutdown();
+    }
+
+    @Test
+    @DisplayName("Llamada exitosa devuelve el resultado remoto")
+    void testCall_Success() {
+        String result = remoteCallGuard.call(USER_SERVICE_API_URL, () -> "remote", throwable -> "fallback");
+
+        assertThat(result).isEqualTo("remote");
+        assertThat(circuitBreakerRegistry.circuitBreaker("user-service").getMetrics().getNumberOfSuccessfulCalls())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Llamada lenta se corta en el límite de tiempo y usa el fallback")
+    void testCall_TimeoutUsesFallback() {
+        long start = System.nanoTime();
+
+        String result = remoteCallGuard.call(USER_SERVICE_API_URL, () -> {
+            try {
+                Thread.sleep(2000);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "remote";
+        }, throwable -> "fallback");
+
+        assertThat(result).isEqualTo("fallback");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(1500));
+    }
+
+    @Test
+    @DisplayName("Circuito abierto no invoca al servicio remoto")
+    void testCall_OpenCircuitSkipsRemote() {
+        AtomicInteger invocations = new AtomicInteger();
+        for (int i = 0; i < 2; i++)
+            remoteCallGuard.call(USER_SERVICE_API_URL, () -> {
+                invocations.incrementAndGet();
+                throw new IllegalStateException("down");
+            }, throwable -> "fallback");
+
+        String result = remoteCallGuard.call(USER_SERVICE_API_URL, () -> {
+            invocations.incrementAndGet();
+            return "remote";
+        }, throwable -> "fallback");
+
+        assertThat(result).isEqualTo("fallback");
+        assertThat(invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("La llamada en el pool del bulkhead conserva el contexto de traza del llamador")
+    @SuppressWarnings("unchecked")
+    void testCall_RunsInCallerTraceContext() {
+        CurrentTraceContext currentTraceContext = mock(CurrentTraceContext.class);
+        TraceContext traceContext = mock(TraceContext.class);
+        AtomicReference<String> scopedThread = new AtomicReference<>();
+        when(currentTraceContext.context()).thenReturn(traceContext);
+        when(currentTraceContext.maybeScope(traceContext)).thenAnswer(invocation -> {
+            scopedThread.set(Thread.currentThread().getName());
+            return mock(CurrentTraceContext.Scope.class);
+        });
+        ObjectProvider<CurrentTraceContext> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(currentTraceContext);
+        RemoteCallGuard tracedGuard = new RemoteCallGuard(circuitBreakerRegistry, ThreadPoolBulkheadRegistry.ofDefaults(),
+                TimeLimiterRegistry.ofDefaults(), provider);
+
+        try {
+            String result = tracedGuard.call(USER_SERVICE_API_URL, () -> "remote", throwable -> "fallback");
+
+            assertThat(result).isEqualTo("remote");
+            assertThat(scopedThread.get()).isNotNull().isNotEqualTo(Thread.currentThread().getName());
+        }
+        finally {
+            tracedGuard.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.selimhorri.app.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.selimhorri.app.domain.Cart;
+import com.selimhorri.app.domain.Order;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.helper.OrderMappingHelper;
+
+/**
+ * Pruebas de Repositorio para OrderRepository
+ * - H2 en memoria con estadísticas de Hibernate: cuenta las sentencias preparadas por cada lectura
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("OrderRepository - Statement Count Tests")
+class OrderRepositoryTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // Tres pedidos repartidos en dos carritos distintos
+        Cart cart1 = testEntityManager.persist(Cart.builder().userId(1).build());
+        Cart cart2 = testEntityManager.persist(Cart.builder().userId(2).build());
+        testEntityManager.persist(order("Order 1", cart1));
+        testEntityManager.persist(order("Order 2", cart1));
+        testEntityManager.persist(order("Order 3", cart2));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findAll() - Debe leer pedidos y el id de su carrito con una sola sentencia")
+    void testFindAll_ShouldPrepareSingleStatement() {
+        // Act
+        List<OrderDto> result = orderRepository.findAll()
+                .stream()
+                .map(OrderMappingHelper::map)
+                .collect(Collectors.toList());
+
+        // Assert
+        assertThat(result).hasSize(3);
+        assertThat(result).allSatisfy(orderDto -> assertThat(orderDto.getCartDto().getCartId()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findDtosByOrderIdGreaterThan() - Debe leer cada página con una sola sentencia")
+    void testFindDtosByOrderIdGreaterThan_ShouldPrepareSingleStatementPerPage() {
+        // Act
+        List<OrderDto> firstPage = orderRepository.findDtosByOrderIdGreaterThan(0, PageRequest.of(0, 2));
+        List<OrderDto> secondPage = orderRepository.findDtosByOrderIdGreaterThan(
+                firstPage.get(firstPage.size() - 1).getOrderId(), PageRequest.of(0, 2));
+
+        // Assert
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage.get(0).getCartDto().getCartId()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private static Order order(final String orderDesc, final Cart cart) {
+        return Order.builder()
+                .orderDate(LocalDateTime.now())
+                .orderDesc(orderDesc)
+                .orderFee(10.0)
+                .cart(cart)
+                .build();
+    }
+
+}
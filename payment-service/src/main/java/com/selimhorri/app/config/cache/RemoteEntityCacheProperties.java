@@ -0,0 +1,19 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.remote-cache")
+@Data
+public class RemoteEntityCacheProperties {
+	
+	private long maximumSize = 10_000;
+	private Duration ttl = Duration.ofSeconds(60);
+	private Duration waitTimeout = Duration.ofSeconds(5);
+	
+}
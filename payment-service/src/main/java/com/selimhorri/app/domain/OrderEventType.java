@@ -0,0 +1,19 @@
+package com.selimhorri.app.domain;
+
+public enum OrderEventType {
+	
+	ORDER_CREATED,
+	ORDER_PLACED,
+	ORDER_UPDATED,
+	ORDER_DELETED;
+	
+}
+
+
+
+
+
+
+
+
+
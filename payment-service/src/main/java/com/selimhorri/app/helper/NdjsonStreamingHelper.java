@@ -0,0 +1,46 @@
+package com.selimhorri.app.helper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.selimhorri.app.constant.AppConstant;
+
+public interface NdjsonStreamingHelper {
+	
+	/**
+	 * Writes every element handed to the exporter as one JSON line, so the response 
+	 * never holds more than the row being serialized.
+	 */
+	public static <T> StreamingResponseBody stream(final ObjectMapper objectMapper, final Consumer<Consumer<T>> exporter) {
+		final ObjectWriter objectWriter = objectMapper.writer()
+				.without(SerializationFeature.INDENT_OUTPUT);
+		return outputStream -> {
+			final var rows = new AtomicInteger();
+			exporter.accept(dto -> {
+				try {
+					outputStream.write(objectWriter.writeValueAsBytes(dto));
+					outputStream.write('\n');
+					if (rows.incrementAndGet() % AppConstant.EXPORT_FETCH_SIZE == 0)
+						outputStream.flush();
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			outputStream.flush();
+		};
+	}
+	
+	
+	
+}
+
+
+
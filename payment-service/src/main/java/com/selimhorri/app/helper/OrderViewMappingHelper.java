@@ -0,0 +1,39 @@
+package com.selimhorri.app.helper;
+
+import com.selimhorri.app.domain.OrderView;
+import com.selimhorri.app.dto.OrderDto;
+
+public interface OrderViewMappingHelper {
+	
+	public static OrderDto map(final OrderView orderView) {
+		return OrderDto.builder()
+				.orderId(orderView.getOrderId())
+				.orderDate(orderView.getOrderDate())
+				.orderDesc(orderView.getOrderDesc())
+				.orderFee(orderView.getOrderFee())
+				.build();
+	}
+	
+	public static OrderView map(final OrderDto orderDto, final Long orderVersion) {
+		return OrderView.builder()
+				.orderId(orderDto.getOrderId())
+				.orderDate(orderDto.getOrderDate())
+				.orderDesc(orderDto.getOrderDesc())
+				.orderFee(orderDto.getOrderFee())
+				.orderVersion(orderVersion)
+				.isDeleted(false)
+				.build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
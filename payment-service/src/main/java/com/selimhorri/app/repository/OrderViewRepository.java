@@ -0,0 +1,18 @@
+package com.selimhorri.app.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.selimhorri.app.domain.OrderView;
+
+public interface OrderViewRepository extends JpaRepository<OrderView, Integer> {
+	
+}
+
+
+
+
+
+
+
+
+
@@ -1,11 +1,28 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Payment;
 
 public interface PaymentRepository extends JpaRepository<Payment, Integer> {
 	
+	boolean existsByOrderId(final Integer orderId);
+	
+	List<Payment> findAllByPaymentIdGreaterThanOrderByPaymentIdAsc(final Integer paymentId, final Pageable pageable);
 	
+	@QueryHints({
+		@QueryHint(name = "org.hibernate.fetchSize", value = "" + AppConstant.EXPORT_FETCH_SIZE), 
+		@QueryHint(name = "org.hibernate.readOnly", value = "true")})
+	@Query("SELECT p FROM Payment p ORDER BY p.paymentId")
+	Stream<Payment> streamAll();
 	
 }
@@ -0,0 +1,49 @@
+package com.selimhorri.app.resource;
+
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.dto.OrderEventDto;
+import com.selimhorri.app.service.OrderViewService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/order-events")
+@Slf4j
+@RequiredArgsConstructor
+public class OrderEventResource {
+	
+	private final OrderViewService orderViewService;
+	
+	@PostMapping
+	public ResponseEntity<Void> apply(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final List<OrderEventDto> orderEventDtos) {
+		log.info("*** Void, resource; apply order events *");
+		this.orderViewService.apply(orderEventDtos);
+		return ResponseEntity.ok().build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,24 @@
+package com.selimhorri.app.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.OrderEventDto;
+
+public interface OrderViewService {
+	
+	Map<Integer, OrderDto> findAllByIds(final Collection<Integer> orderIds);
+	void apply(final List<OrderEventDto> orderEventDtos);
+	
+}
+
+
+
+
+
+
+
+
+
@@ -1,12 +1,15 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.PaymentDto;
 
 public interface PaymentService {
 	
 	List<PaymentDto> findAll();
+	List<PaymentDto> findAll(final Integer after, final int limit);
+	void exportAll(final Consumer<PaymentDto> sink);
 	PaymentDto findById(final Integer paymentId);
 	PaymentDto save(final PaymentDto paymentDto);
 	PaymentDto update(final PaymentDto paymentDto);
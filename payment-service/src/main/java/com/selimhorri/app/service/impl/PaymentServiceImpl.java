@@ -1,19 +1,26 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Payment;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.PaymentDto;
 import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
 import com.selimhorri.app.helper.PaymentMappingHelper;
 import com.selimhorri.app.repository.PaymentRepository;
+import com.selimhorri.app.service.OrderViewService;
 import com.selimhorri.app.service.PaymentService;
 
 import lombok.RequiredArgsConstructor;
@@ -26,33 +33,56 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentServiceImpl implements PaymentService {
 	
 	private final PaymentRepository paymentRepository;
-	private final RestTemplate restTemplate;
+	private final OrderViewService orderViewService;
+	private final EntityManager entityManager;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<PaymentDto> findAll() {
 		log.info("*** PaymentDto List, service; fetch all payments *");
-		return this.paymentRepository.findAll()
+		return this.withOrderDtos(this.paymentRepository.findAll()
 				.stream()
 					.map(PaymentMappingHelper::map)
-					.map(p -> {
-						p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
-						return p;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
+	public List<PaymentDto> findAll(final Integer after, final int limit) {
+		log.info("*** PaymentDto List, service; fetch payments page *");
+		return this.withOrderDtos(this.paymentRepository.findAllByPaymentIdGreaterThanOrderByPaymentIdAsc((after != null) ? after : 0, PageRequest.of(0, limit))
+				.stream()
+					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public void exportAll(final Consumer<PaymentDto> sink) {
+		log.info("*** Void, service; export all payments *");
+		final List<PaymentDto> batch = new ArrayList<>(AppConstant.EXPORT_FETCH_SIZE);
+		try (final Stream<Payment> payments = this.paymentRepository.streamAll()) {
+			payments.forEach(payment -> {
+				batch.add(PaymentMappingHelper.map(payment));
+				if (batch.size() == AppConstant.EXPORT_FETCH_SIZE) {
+					this.withOrderDtos(batch).forEach(sink);
+					batch.clear();
+					this.entityManager.clear();
+				}
+			});
+		}
+		if (!batch.isEmpty())
+			this.withOrderDtos(batch).forEach(sink);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
 	public PaymentDto findById(final Integer paymentId) {
 		log.info("*** PaymentDto, service; fetch payment by id *");
 		return this.paymentRepository.findById(paymentId)
 				.map(PaymentMappingHelper::map)
-				.map(p -> {
-					p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
-					return p;
-				})
+				.map(p -> this.withOrderDtos(List.of(p)).get(0))
 				.orElseThrow(() -> new PaymentNotFoundException(String.format("Payment with id: %d not found", paymentId)));
 	}
 	
@@ -76,6 +106,18 @@ public class PaymentServiceImpl implements PaymentService {
 		this.paymentRepository.deleteById(paymentId);
 	}
 	
+	private List<PaymentDto> withOrderDtos(final List<PaymentDto> paymentDtos) {
+		final Map<Integer, OrderDto> orderDtos = this.orderViewService.findAllByIds(
+				paymentDtos.stream().map(p -> p.getOrderDto().getOrderId()).collect(Collectors.toSet()));
+		
+		return paymentDtos.stream()
+				.map(p -> {
+					p.setOrderDto(orderDtos.getOrDefault(p.getOrderDto().getOrderId(), p.getOrderDto()));
+					return p;
+				})
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
 	
 	
 }
@@ -0,0 +1,20 @@
+package com.selimhorri.app.config.cache;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Caffeine caches are declared in application.yml (spring.cache.*); the cache advice runs 
+ * ahead of the transactional one so that a hit never opens a transaction nor borrows a connection.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+	
+	
+	
+}
+
+
+
@@ -0,0 +1,15 @@
+package com.selimhorri.app.config.jpa;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+@Configuration
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+	
+	
+	
+}
+
+
+
@@ -10,6 +10,20 @@ public abstract class AppConstant {
 	public static final String LOCAL_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String ZONED_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String INSTANT_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
+	public static final int DEFAULT_PAGE_LIMIT = 50;
+	public static final int MAX_PAGE_LIMIT = 500;
+	public static final int IN_CLAUSE_CHUNK_SIZE = 500;
+	public static final long CATALOG_VERSION_TTL_MILLIS = 2_000L;
+	public static final long CATALOG_SNAPSHOT_CLOCK_SKEW_MILLIS = 5_000L;
+	public static final long CATALOG_SNAPSHOT_FULL_REBUILD_MILLIS = 60_000L;
+	
+	@NoArgsConstructor(access = AccessLevel.PRIVATE)
+	public abstract class CacheNames {
+		
+		public static final String PRODUCTS = "products";
+		public static final String CATEGORIES = "categories";
+		
+	}
 	
 	@NoArgsConstructor(access = AccessLevel.PRIVATE)
 	public abstract class DiscoveredDomainsApi {
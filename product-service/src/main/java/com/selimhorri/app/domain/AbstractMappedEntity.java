@@ -4,13 +4,16 @@ import java.io.Serializable;
 import java.time.Instant;
 
 import javax.persistence.Column;
+import javax.persistence.EntityListeners;
 import javax.persistence.MappedSuperclass;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonFormat.Shape;
+import com.selimhorri.app.domain.listener.CatalogChangeListener;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -18,6 +21,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @MappedSuperclass
+@EntityListeners({AuditingEntityListener.class, CatalogChangeListener.class})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Data
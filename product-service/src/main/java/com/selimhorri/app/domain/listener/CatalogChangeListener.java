@@ -0,0 +1,35 @@
+package com.selimhorri.app.domain.listener;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.selimhorri.app.service.CatalogVersionService;
+
+/**
+ * Instantiated by Hibernate through Spring's bean container; the version service is looked up 
+ * lazily because entity listeners are created while the EntityManagerFactory is still starting.
+ */
+public class CatalogChangeListener {
+	
+	private final ObjectProvider<CatalogVersionService> catalogVersionService;
+	
+	public CatalogChangeListener(final ObjectProvider<CatalogVersionService> catalogVersionService) {
+		this.catalogVersionService = catalogVersionService;
+	}
+	
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	public void onCatalogChange(final Object entity) {
+		this.catalogVersionService.ifAvailable(CatalogVersionService::invalidate);
+	}
+	
+	
+	
+}
+
+
+
@@ -34,6 +34,21 @@ public class CategoryDto implements Serializable {
 	@JsonInclude(Include.NON_NULL)
 	private Set<ProductDto> productDtos;
 	
+	/**
+	 * Flat constructor for JPQL constructor expressions (read-only list queries).
+	 */
+	public CategoryDto(final Integer categoryId, final String categoryTitle, final String imageUrl, 
+			final Integer parentCategoryId, final String parentCategoryTitle, final String parentCategoryImageUrl) {
+		this.categoryId = categoryId;
+		this.categoryTitle = categoryTitle;
+		this.imageUrl = imageUrl;
+		this.parentCategoryDto = CategoryDto.builder()
+				.categoryId(parentCategoryId)
+				.categoryTitle(parentCategoryTitle)
+				.imageUrl(parentCategoryImageUrl)
+				.build();
+	}
+	
 }
 
 
@@ -1,6 +1,13 @@
 package com.selimhorri.app.dto.response.collection;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.selimhorri.app.constant.AppConstant;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +22,23 @@ public class DtoCollectionResponse<T> {
 	
 	private Collection<T> collection;
 	
+	@JsonInclude(Include.NON_NULL)
+	private Integer nextCursor;
+	
+	public DtoCollectionResponse(final Collection<T> collection) {
+		this.collection = collection;
+	}
+	
+	public static int pageLimit(final Integer limit) {
+		return Math.min(Math.max(Optional.ofNullable(limit).orElse(AppConstant.DEFAULT_PAGE_LIMIT), 1), 
+				AppConstant.MAX_PAGE_LIMIT);
+	}
+	
+	public static <T> DtoCollectionResponse<T> ofPage(final List<T> page, final int limit, final Function<T, Integer> cursorMapper) {
+		return new DtoCollectionResponse<>(page, 
+				(page.size() < limit) ? null : cursorMapper.apply(page.get(page.size() - 1)));
+	}
+	
 }
 
 
@@ -0,0 +1,55 @@
+package com.selimhorri.app.helper;
+
+import java.io.UncheckedIOException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public interface ConditionalResponseHelper {
+	
+	/**
+	 * Strong validator derived from the exact bytes sent, so different ids, pages or encodings 
+	 * never share one and a stale cached body can never be served under a newer ETag.
+	 */
+	public static String eTagOf(final byte[] body) {
+		return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+	}
+	
+	/**
+	 * Same as {@link #eTagOf(byte[])} for a content-coded body; the coding is appended so the 
+	 * gzip variant never validates against the identity one.
+	 */
+	public static String eTagOf(final byte[] body, final String contentCoding) {
+		return "\"" + DigestUtils.md5DigestAsHex(body) + "-" + contentCoding + "\"";
+	}
+	
+	/**
+	 * Serializes the body once, derives its ETag from those bytes and answers a matching 
+	 * If-None-Match with a bodiless 304.
+	 */
+	public static ResponseEntity<byte[]> ok(final WebRequest webRequest, final ObjectMapper objectMapper, final Object body) {
+		final byte[] serialized;
+		try {
+			serialized = objectMapper.writeValueAsBytes(body);
+		}
+		catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+		final var eTag = eTagOf(serialized);
+		if (webRequest.checkNotModified(eTag))
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+		return ResponseEntity.ok()
+				.eTag(eTag)
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(serialized);
+	}
+	
+	
+	
+}
@@ -0,0 +1,57 @@
+package com.selimhorri.app.helper;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public interface DtoCollectionStreamingHelper {
+	
+	public static List<List<Integer>> partition(final Collection<Integer> ids, final int chunkSize) {
+		final List<Integer> distinctIds = ids.stream()
+				.filter(Objects::nonNull)
+				.distinct()
+				.sorted()
+				.collect(Collectors.toUnmodifiableList());
+		return IntStream.range(0, (distinctIds.size() + chunkSize - 1) / chunkSize)
+				.mapToObj(i -> distinctIds.subList(i * chunkSize, Math.min((i + 1) * chunkSize, distinctIds.size())))
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	/**
+	 * Writes a DtoCollectionResponse-shaped body ({"collection": [...]}) one chunk at a time, 
+	 * so only a single chunk of DTOs is held in memory while the response is being sent.
+	 * The first chunk is loaded right away, before the status is committed, so a failing lookup 
+	 * still gets a proper error response. A later chunk failing mid-body cannot change the 200 any 
+	 * more: the JSON is then left unterminated (never auto-closed into a valid but shorter list), 
+	 * so clients fail to parse the body instead of silently missing rows.
+	 */
+	public static <T> StreamingResponseBody stream(final ObjectMapper objectMapper, 
+			final List<List<Integer>> idChunks, final Function<List<Integer>, Collection<T>> chunkLoader) {
+		final Collection<T> firstChunk = idChunks.isEmpty() ? List.of() : chunkLoader.apply(idChunks.get(0));
+		return outputStream -> {
+			try (final var generator = objectMapper.createGenerator(outputStream)
+					.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+				generator.writeStartObject();
+				generator.writeArrayFieldStart("collection");
+				for (int i = 0; i < idChunks.size(); i++) {
+					for (final var dto : (i == 0) ? firstChunk : chunkLoader.apply(idChunks.get(i)))
+						generator.writeObject(dto);
+					generator.flush();
+				}
+				generator.writeEndArray();
+				generator.writeEndObject();
+			}
+		};
+	}
+	
+	
+	
+}
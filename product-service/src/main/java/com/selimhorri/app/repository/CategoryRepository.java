@@ -1,11 +1,34 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.repository.projection.CatalogStamp;
 
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = "parentCategory")
+	List<Category> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = "parentCategory")
+	Optional<Category> findById(final Integer categoryId);
+	
+	@Query("SELECT new com.selimhorri.app.dto.CategoryDto(c.categoryId, c.categoryTitle, c.imageUrl, "
+			+ "pc.categoryId, pc.categoryTitle, pc.imageUrl) "
+			+ "FROM Category c LEFT JOIN c.parentCategory pc WHERE c.categoryId > :categoryId ORDER BY c.categoryId")
+	List<CategoryDto> findDtosByCategoryIdGreaterThan(@Param("categoryId") final Integer categoryId, final Pageable pageable);
 	
+	@Query("SELECT COUNT(c) AS total, MAX(c.updatedAt) AS lastModified FROM Category c")
+	CatalogStamp findCatalogStamp();
 	
 }
@@ -1,11 +1,42 @@
 package com.selimhorri.app.repository;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.repository.projection.CatalogStamp;
 
 public interface ProductRepository extends JpaRepository<Product, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = "category")
+	List<Product> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = "category")
+	List<Product> findAllById(final Iterable<Integer> productIds);
+	
+	@Override
+	@EntityGraph(attributePaths = "category")
+	Optional<Product> findById(final Integer productId);
+	
+	@Query("SELECT new com.selimhorri.app.dto.ProductDto(p.productId, p.productTitle, p.imageUrl, p.sku, p.priceUnit, p.quantity, "
+			+ "c.categoryId, c.categoryTitle, c.imageUrl) "
+			+ "FROM Product p LEFT JOIN p.category c WHERE p.productId > :productId ORDER BY p.productId")
+	List<ProductDto> findDtosByProductIdGreaterThan(@Param("productId") final Integer productId, final Pageable pageable);
+	
+	@EntityGraph(attributePaths = "category")
+	List<Product> findAllByUpdatedAtGreaterThanEqual(final Instant updatedAt);
 	
+	@Query("SELECT COUNT(p) AS total, MAX(p.updatedAt) AS lastModified FROM Product p")
+	CatalogStamp findCatalogStamp();
 	
 }
@@ -12,10 +12,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.ConditionalResponseHelper;
 import com.selimhorri.app.service.CategoryService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,20 +32,28 @@ import lombok.extern.slf4j.Slf4j;
 public class CategoryResource {
 	
 	private final CategoryService categoryService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findAll() {
+	public ResponseEntity<byte[]> findAll(
+			@RequestParam(name = "after", required = false) final Integer after, 
+			@RequestParam(name = "limit", required = false) final Integer limit, 
+			final WebRequest webRequest) {
 		log.info("*** CategoryDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.categoryService.findAll()));
+		final int pageLimit = DtoCollectionResponse.pageLimit(limit);
+		return ConditionalResponseHelper.ok(webRequest, this.objectMapper, DtoCollectionResponse.ofPage(
+				this.categoryService.findAll(after, pageLimit), pageLimit, CategoryDto::getCategoryId));
 	}
 	
 	@GetMapping("/{categoryId}")
-	public ResponseEntity<CategoryDto> findById(
+	public ResponseEntity<byte[]> findById(
 			@PathVariable("categoryId") 
 			@NotBlank(message = "Input must not be blank") 
-			@Valid final String categoryId) {
+			@Valid final String categoryId, 
+			final WebRequest webRequest) {
 		log.info("*** CategoryDto, resource; fetch category by id *");
-		return ResponseEntity.ok(this.categoryService.findById(Integer.parseInt(categoryId)));
+		return ConditionalResponseHelper.ok(webRequest, this.objectMapper, 
+				this.categoryService.findById(Integer.parseInt(categoryId)));
 	}
 	
 	@PostMapping
@@ -1,9 +1,15 @@
 package com.selimhorri.app.resource;
 
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +18,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.ConditionalResponseHelper;
+import com.selimhorri.app.helper.DtoCollectionStreamingHelper;
+import com.selimhorri.app.service.CatalogSnapshotService;
 import com.selimhorri.app.service.ProductService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,20 +42,53 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductResource {
 	
 	private final ProductService productService;
+	private final CatalogSnapshotService catalogSnapshotService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAll() {
+	public ResponseEntity<byte[]> findAll(
+			@RequestParam(name = "after", required = false) final Integer after, 
+			@RequestParam(name = "limit", required = false) final Integer limit, 
+			final WebRequest webRequest) {
 		log.info("*** ProductDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAll()));
+		final var acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+		final boolean gzip = after == null && limit == null && acceptEncoding != null && acceptEncoding.contains("gzip");
+		final byte[] body = (after == null && limit == null) ? 
+				this.catalogSnapshotService.defaultPage(gzip) : 
+				this.catalogSnapshotService.page(after, DtoCollectionResponse.pageLimit(limit));
+		final var eTag = (gzip) ? ConditionalResponseHelper.eTagOf(body, "gzip") : ConditionalResponseHelper.eTagOf(body);
+		if (webRequest.checkNotModified(eTag))
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+		final var response = ResponseEntity.ok()
+				.eTag(eTag)
+				.contentType(MediaType.APPLICATION_JSON)
+				.varyBy(HttpHeaders.ACCEPT_ENCODING);
+		if (gzip)
+			response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+		return response.body(body);
+	}
+	
+	@GetMapping(params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> findAllByIds(
+			@RequestParam("ids") 
+			@NotEmpty(message = "Input must not be empty!") final List<Integer> productIds) {
+		log.info("*** ProductDto List, controller; stream products by ids *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(DtoCollectionStreamingHelper.stream(this.objectMapper, 
+						DtoCollectionStreamingHelper.partition(productIds, AppConstant.IN_CLAUSE_CHUNK_SIZE), 
+						this.productService::findAllByIds));
 	}
 	
 	@GetMapping("/{productId}")
-	public ResponseEntity<ProductDto> findById(
+	public ResponseEntity<byte[]> findById(
 			@PathVariable("productId") 
 			@NotBlank(message = "Input must not be blank!") 
-			@Valid final String productId) {
+			@Valid final String productId, 
+			final WebRequest webRequest) {
 		log.info("*** ProductDto, resource; fetch product by id *");
-		return ResponseEntity.ok(this.productService.findById(Integer.parseInt(productId)));
+		return ConditionalResponseHelper.ok(webRequest, this.objectMapper, 
+				this.productService.findById(Integer.parseInt(productId)));
 	}
 	
 	@PostMapping
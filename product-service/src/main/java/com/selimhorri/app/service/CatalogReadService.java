@@ -0,0 +1,28 @@
+package com.selimhorri.app.service;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.selimhorri.app.dto.ProductDto;
+
+import lombok.Value;
+
+public interface CatalogReadService {
+	
+	CatalogRead read(final String knownCategoryStamp, final Instant knownProductsLastModified, final int[] knownProductIds);
+	
+	/**
+	 * Stamps of the catalog and the product rows read along with them: either only the rows changed 
+	 * since the known stamp (full = false) or every product (full = true).
+	 */
+	@Value
+	class CatalogRead {
+		
+		Instant productsLastModified;
+		String categoryStamp;
+		List<ProductDto> products;
+		boolean full;
+		
+	}
+	
+}
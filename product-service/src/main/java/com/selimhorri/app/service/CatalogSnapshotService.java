@@ -0,0 +1,9 @@
+package com.selimhorri.app.service;
+
+public interface CatalogSnapshotService {
+	
+	byte[] defaultPage(final boolean gzip);
+	byte[] page(final Integer after, final int limit);
+	void invalidate();
+	
+}
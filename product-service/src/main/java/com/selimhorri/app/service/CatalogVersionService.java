@@ -0,0 +1,8 @@
+package com.selimhorri.app.service;
+
+public interface CatalogVersionService {
+	
+	String currentVersion();
+	void invalidate();
+	
+}
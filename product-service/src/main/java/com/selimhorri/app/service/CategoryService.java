@@ -7,6 +7,7 @@ import com.selimhorri.app.dto.CategoryDto;
 public interface CategoryService {
 	
 	List<CategoryDto> findAll();
+	List<CategoryDto> findAll(final Integer after, final int limit);
 	CategoryDto findById(final Integer categoryId);
 	CategoryDto save(final CategoryDto categoryDto);
 	CategoryDto update(final CategoryDto categoryDto);
@@ -1,5 +1,6 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.selimhorri.app.dto.ProductDto;
@@ -7,6 +8,8 @@ import com.selimhorri.app.dto.ProductDto;
 public interface ProductService {
 	
 	List<ProductDto> findAll();
+	List<ProductDto> findAll(final Integer after, final int limit);
+	List<ProductDto> findAllByIds(final Collection<Integer> productIds);
 	ProductDto findById(final Integer productId);
 	ProductDto save(final ProductDto productDto);
 	ProductDto update(final ProductDto productDto);
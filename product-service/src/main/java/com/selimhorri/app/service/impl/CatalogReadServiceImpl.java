@@ -0,0 +1,72 @@
+package com.selimhorri.app.service.impl;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.repository.projection.CatalogStamp;
+import com.selimhorri.app.service.CatalogReadService;
+import com.selimhorri.app.service.ProductService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads the catalog stamps and the product rows of a snapshot refresh in one read-only transaction, 
+ * so with a replica configured both come from the same DataSource and a snapshot never pairs the 
+ * stamp of one database with the rows of another. The delta is kept only when the category stamp is 
+ * unchanged and merging it into the known rows accounts for every product; otherwise (deletes, 
+ * category changes) all products are read.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CatalogReadServiceImpl implements CatalogReadService {
+	
+	private final ProductService productService;
+	private final ProductRepository productRepository;
+	private final CategoryRepository categoryRepository;
+	
+	@Override
+	@Transactional(readOnly = true)
+	public CatalogRead read(final String knownCategoryStamp, final Instant knownProductsLastModified, final int[] knownProductIds) {
+		
+		final var productStamp = Optional.ofNullable(this.productRepository.findCatalogStamp());
+		final long productTotal = productStamp.map(CatalogStamp::getTotal).orElse(0L);
+		final var productsLastModified = productStamp.map(CatalogStamp::getLastModified).orElse(Instant.EPOCH);
+		final var categoryStamp = Optional.ofNullable(this.categoryRepository.findCatalogStamp())
+				.map(stamp -> stamp.getTotal() + "." + Optional.ofNullable(stamp.getLastModified()).map(Instant::toEpochMilli).orElse(0L))
+				.orElse("0.0");
+		
+		if (knownCategoryStamp != null && knownCategoryStamp.equals(categoryStamp)) {
+			log.info("*** CatalogRead, service; read catalog changes *");
+			final var changed = this.productRepository.findAllByUpdatedAtGreaterThanEqual(knownProductsLastModified
+						.minusMillis(AppConstant.CATALOG_SNAPSHOT_CLOCK_SKEW_MILLIS))
+					.stream()
+						.map(ProductMappingHelper::map)
+						.collect(Collectors.toUnmodifiableList());
+			final long added = changed.stream()
+					.map(ProductDto::getProductId)
+					.filter(productId -> Arrays.binarySearch(knownProductIds, productId) < 0)
+					.distinct()
+					.count();
+			if (knownProductIds.length + added == productTotal)
+				return new CatalogRead(productsLastModified, categoryStamp, changed, false);
+		}
+		
+		log.info("*** CatalogRead, service; read whole catalog *");
+		return new CatalogRead(productsLastModified, categoryStamp, this.productService.findAll(), true);
+	}
+	
+	
+	
+}
@@ -0,0 +1,215 @@
+package com.selimhorri.app.service.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.service.CatalogReadService;
+import com.selimhorri.app.service.CatalogSnapshotService;
+import com.selimhorri.app.service.CatalogVersionService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the product listing as pre-serialized JSON rows ordered by productId, so that any keyset 
+ * page is assembled by copying bytes and the default page (plus its gzip form) is handed out as is.
+ * The snapshot is checked against the catalog version on read: product inserts/updates only re-serialize 
+ * the rows whose updatedAt moved, while deletes or any category change trigger a full rebuild. A row 
+ * committed later than its updatedAt (beyond the clock-skew window, or without moving the version at 
+ * all) is invisible to that check, so the snapshot is also rebuilt in full every 
+ * CATALOG_SNAPSHOT_FULL_REBUILD_MILLIS.
+ */
+@Service
+@Slf4j
+public class CatalogSnapshotServiceImpl implements CatalogSnapshotService {
+	
+	private static final byte[] PAGE_PREFIX = "{\"collection\":[".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] PAGE_SUFFIX = "]}".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] CURSOR_PREFIX = "],\"nextCursor\":".getBytes(StandardCharsets.UTF_8);
+	
+	private final CatalogReadService catalogReadService;
+	private final CatalogVersionService catalogVersionService;
+	private final ObjectWriter objectWriter;
+	private volatile Snapshot snapshot;
+	
+	public CatalogSnapshotServiceImpl(final CatalogReadService catalogReadService, 
+			final CatalogVersionService catalogVersionService, final ObjectMapper objectMapper) {
+		this.catalogReadService = catalogReadService;
+		this.catalogVersionService = catalogVersionService;
+		this.objectWriter = objectMapper.writer()
+				.without(SerializationFeature.INDENT_OUTPUT);
+	}
+	
+	@Override
+	public byte[] defaultPage(final boolean gzip) {
+		final var current = this.current();
+		return (gzip) ? current.defaultPageGzip : current.defaultPage;
+	}
+	
+	@Override
+	public byte[] page(final Integer after, final int limit) {
+		return this.current().page((after != null) ? after : 0, limit);
+	}
+	
+	@Override
+	public void invalidate() {
+		this.snapshot = null;
+	}
+	
+	private Snapshot current() {
+		final var version = this.catalogVersionService.currentVersion();
+		final var current = this.snapshot;
+		if (current != null && current.isFresh(version))
+			return current;
+		synchronized (this) {
+			final var latest = this.snapshot;
+			if (latest != null && latest.isFresh(version))
+				return latest;
+			final var rebuilt = this.rebuild(latest, version);
+			this.snapshot = rebuilt;
+			return rebuilt;
+		}
+	}
+	
+	private Snapshot rebuild(final Snapshot previous, final String version) {
+		
+		final boolean incremental = previous != null && !previous.isFullRebuildDue();
+		final var read = (incremental) ? 
+				this.catalogReadService.read(previous.categoryStamp, previous.productsLastModified, previous.productIds) : 
+				this.catalogReadService.read(null, null, new int[0]);
+		
+		if (!read.isFull()) {
+			log.info("*** Snapshot, service; refresh catalog snapshot incrementally *");
+			final var rows = previous.rows();
+			read.getProducts().forEach(productDto -> rows.put(productDto.getProductId(), this.serialize(productDto)));
+			return this.snapshotOf(version, read.getProductsLastModified(), read.getCategoryStamp(), rows, previous.fullyBuiltAt);
+		}
+		
+		log.info("*** Snapshot, service; rebuild catalog snapshot *");
+		final var rows = new TreeMap<Integer, byte[]>();
+		read.getProducts().forEach(productDto -> rows.put(productDto.getProductId(), this.serialize(productDto)));
+		return this.snapshotOf(version, read.getProductsLastModified(), read.getCategoryStamp(), rows, System.nanoTime());
+	}
+	
+	private Snapshot snapshotOf(final String version, final Instant productsLastModified, final String categoryStamp, 
+			final TreeMap<Integer, byte[]> rows, final long fullyBuiltAt) {
+		final int[] productIds = rows.keySet().stream().mapToInt(Integer::intValue).toArray();
+		final byte[][] serialized = rows.values().toArray(byte[][]::new);
+		final var defaultPage = Snapshot.assemble(productIds, serialized, 0, AppConstant.DEFAULT_PAGE_LIMIT);
+		return new Snapshot(version, productsLastModified, categoryStamp, productIds, serialized, defaultPage, gzip(defaultPage), 
+				fullyBuiltAt);
+	}
+	
+	private byte[] serialize(final ProductDto productDto) {
+		try {
+			return this.objectWriter.writeValueAsBytes(productDto);
+		}
+		catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	private static byte[] gzip(final byte[] bytes) {
+		final var outputStream = new ByteArrayOutputStream(bytes.length / 4 + 64);
+		try (final var gzipOutputStream = new GZIPOutputStream(outputStream)) {
+			gzipOutputStream.write(bytes);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return outputStream.toByteArray();
+	}
+	
+	private static final class Snapshot {
+		
+		private final String version;
+		private final Instant productsLastModified;
+		private final String categoryStamp;
+		private final int[] productIds;
+		private final byte[][] serialized;
+		private final byte[] defaultPage;
+		private final byte[] defaultPageGzip;
+		private final long fullyBuiltAt;
+		
+		private Snapshot(final String version, final Instant productsLastModified, final String categoryStamp, 
+				final int[] productIds, final byte[][] serialized, final byte[] defaultPage, final byte[] defaultPageGzip, 
+				final long fullyBuiltAt) {
+			this.version = version;
+			this.productsLastModified = productsLastModified;
+			this.categoryStamp = categoryStamp;
+			this.productIds = productIds;
+			this.serialized = serialized;
+			this.defaultPage = defaultPage;
+			this.defaultPageGzip = defaultPageGzip;
+			this.fullyBuiltAt = fullyBuiltAt;
+		}
+		
+		private boolean isFresh(final String version) {
+			return this.version.equals(version) && !this.isFullRebuildDue();
+		}
+		
+		private boolean isFullRebuildDue() {
+			return System.nanoTime() - this.fullyBuiltAt >= AppConstant.CATALOG_SNAPSHOT_FULL_REBUILD_MILLIS * 1_000_000L;
+		}
+		
+		private TreeMap<Integer, byte[]> rows() {
+			final var rows = new TreeMap<Integer, byte[]>();
+			for (int i = 0; i < this.productIds.length; i++)
+				rows.put(this.productIds[i], this.serialized[i]);
+			return rows;
+		}
+		
+		private byte[] page(final int after, final int limit) {
+			if (after == 0 && limit == AppConstant.DEFAULT_PAGE_LIMIT)
+				return this.defaultPage;
+			return assemble(this.productIds, this.serialized, after, limit);
+		}
+		
+		private static byte[] assemble(final int[] productIds, final byte[][] serialized, final int after, final int limit) {
+			final int searched = Arrays.binarySearch(productIds, after);
+			final int from = (searched >= 0) ? searched + 1 : -searched - 1;
+			final int to = Math.min(productIds.length, from + limit);
+			final var outputStream = new ByteArrayOutputStream(PAGE_PREFIX.length + PAGE_SUFFIX.length + 32 
+					+ length(Arrays.asList(serialized).subList(from, Math.max(from, to))));
+			outputStream.writeBytes(PAGE_PREFIX);
+			for (int i = from; i < to; i++) {
+				if (i > from)
+					outputStream.write(',');
+				outputStream.writeBytes(serialized[i]);
+			}
+			if (to - from == limit) {
+				outputStream.writeBytes(CURSOR_PREFIX);
+				outputStream.writeBytes(String.valueOf(productIds[to - 1]).getBytes(StandardCharsets.UTF_8));
+				outputStream.write('}');
+			}
+			else
+				outputStream.writeBytes(PAGE_SUFFIX);
+			return outputStream.toByteArray();
+		}
+		
+		private static int length(final Collection<byte[]> rows) {
+			return rows.stream().mapToInt(row -> row.length + 1).sum();
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
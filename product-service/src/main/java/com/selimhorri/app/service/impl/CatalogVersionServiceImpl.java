@@ -0,0 +1,76 @@
+package com.selimhorri.app.service.impl;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.repository.projection.CatalogStamp;
+import com.selimhorri.app.service.CatalogVersionService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Version stamp of the whole catalog, derived from the row count and the latest updatedAt of 
+ * products and categories; it only tells the snapshot when to refresh, response ETags are 
+ * derived from the bytes actually sent. The stamp is memoized for CATALOG_VERSION_TTL_MILLIS 
+ * and dropped as soon as this instance writes to the catalog, so writes made through other 
+ * instances are picked up within that window.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CatalogVersionServiceImpl implements CatalogVersionService {
+	
+	private final ProductRepository productRepository;
+	private final CategoryRepository categoryRepository;
+	private volatile CachedVersion cachedVersion;
+	
+	@Override
+	public String currentVersion() {
+		final var cached = this.cachedVersion;
+		if (cached != null && System.nanoTime() - cached.computedAt < AppConstant.CATALOG_VERSION_TTL_MILLIS * 1_000_000L)
+			return cached.version;
+		
+		log.info("*** String, service; compute catalog version *");
+		final var version = String.format("%s-%s", 
+				stampOf(this.productRepository.findCatalogStamp()), 
+				stampOf(this.categoryRepository.findCatalogStamp()));
+		this.cachedVersion = new CachedVersion(version, System.nanoTime());
+		return version;
+	}
+	
+	@Override
+	public void invalidate() {
+		this.cachedVersion = null;
+	}
+	
+	private static String stampOf(final CatalogStamp catalogStamp) {
+		final var stamp = Optional.ofNullable(catalogStamp);
+		return stamp.map(CatalogStamp::getTotal).orElse(0L) + "." + stamp.map(CatalogStamp::getLastModified)
+				.map(Instant::toEpochMilli)
+				.orElse(0L);
+	}
+	
+	private static final class CachedVersion {
+		
+		private final String version;
+		private final long computedAt;
+		
+		private CachedVersion(final String version, final long computedAt) {
+			this.version = version;
+			this.computedAt = computedAt;
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
@@ -3,10 +3,14 @@ package com.selimhorri.app.service.impl;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
 import com.selimhorri.app.helper.CategoryMappingHelper;
@@ -25,6 +29,7 @@ public class CategoryServiceImpl implements CategoryService {
 	private final CategoryRepository categoryRepository;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<CategoryDto> findAll() {
 		log.info("*** CategoryDto List, service; fetch all categorys *");
 		return this.categoryRepository.findAll()
@@ -35,6 +40,15 @@ public class CategoryServiceImpl implements CategoryService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
+	public List<CategoryDto> findAll(final Integer after, final int limit) {
+		log.info("*** CategoryDto List, service; fetch categories page *");
+		return List.copyOf(this.categoryRepository.findDtosByCategoryIdGreaterThan((after != null) ? after : 0, PageRequest.of(0, limit)));
+	}
+	
+	@Override
+	@Cacheable(cacheNames = AppConstant.CacheNames.CATEGORIES, key = "#categoryId")
+	@Transactional(readOnly = true)
 	public CategoryDto findById(final Integer categoryId) {
 		log.info("*** CategoryDto, service; fetch category by id *");
 		return this.categoryRepository.findById(categoryId)
@@ -43,6 +57,9 @@ public class CategoryServiceImpl implements CategoryService {
 	}
 	
 	@Override
+	@Caching(evict = {
+			@CacheEvict(cacheNames = AppConstant.CacheNames.CATEGORIES, allEntries = true), 
+			@CacheEvict(cacheNames = AppConstant.CacheNames.PRODUCTS, allEntries = true)})
 	public CategoryDto save(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; save category *");
 		return CategoryMappingHelper.map(this.categoryRepository
@@ -50,6 +67,9 @@ public class CategoryServiceImpl implements CategoryService {
 	}
 	
 	@Override
+	@Caching(evict = {
+			@CacheEvict(cacheNames = AppConstant.CacheNames.CATEGORIES, allEntries = true), 
+			@CacheEvict(cacheNames = AppConstant.CacheNames.PRODUCTS, allEntries = true)})
 	public CategoryDto update(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category *");
 		return CategoryMappingHelper.map(this.categoryRepository
@@ -57,6 +77,9 @@ public class CategoryServiceImpl implements CategoryService {
 	}
 	
 	@Override
+	@Caching(evict = {
+			@CacheEvict(cacheNames = AppConstant.CacheNames.CATEGORIES, allEntries = true), 
+			@CacheEvict(cacheNames = AppConstant.CacheNames.PRODUCTS, allEntries = true)})
 	public CategoryDto update(final Integer categoryId, final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category with categoryId *");
 		return CategoryMappingHelper.map(this.categoryRepository
@@ -64,6 +87,9 @@ public class CategoryServiceImpl implements CategoryService {
 	}
 	
 	@Override
+	@Caching(evict = {
+			@CacheEvict(cacheNames = AppConstant.CacheNames.CATEGORIES, allEntries = true), 
+			@CacheEvict(cacheNames = AppConstant.CacheNames.PRODUCTS, allEntries = true)})
 	public void deleteById(final Integer categoryId) {
 		log.info("*** Void, service; delete category by id *");
 		this.categoryRepository.deleteById(categoryId);
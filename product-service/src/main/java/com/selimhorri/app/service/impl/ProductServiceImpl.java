@@ -1,12 +1,16 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
 import com.selimhorri.app.helper.ProductMappingHelper;
@@ -25,6 +29,7 @@ public class ProductServiceImpl implements ProductService {
 	private final ProductRepository productRepository;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<ProductDto> findAll() {
 		log.info("*** ProductDto List, service; fetch all products *");
 		return this.productRepository.findAll()
@@ -35,6 +40,30 @@ public class ProductServiceImpl implements ProductService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
+	public List<ProductDto> findAll(final Integer after, final int limit) {
+		log.info("*** ProductDto List, service; fetch products page *");
+		return List.copyOf(this.productRepository.findDtosByProductIdGreaterThan((after != null) ? after : 0, PageRequest.of(0, limit)));
+	}
+	
+	/**
+	 * One IN query for the given ids; chunking to IN_CLAUSE_CHUNK_SIZE is left to the caller 
+	 * (ProductResource streams the response chunk by chunk).
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<ProductDto> findAllByIds(final Collection<Integer> productIds) {
+		log.info("*** ProductDto List, service; fetch products by ids *");
+		return this.productRepository.findAllById(productIds)
+				.stream()
+					.map(ProductMappingHelper::map)
+					.distinct()
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	@Cacheable(cacheNames = AppConstant.CacheNames.PRODUCTS, key = "#productId")
+	@Transactional(readOnly = true)
 	public ProductDto findById(final Integer productId) {
 		log.info("*** ProductDto, service; fetch product by id *");
 		return this.productRepository.findById(productId)
@@ -43,6 +72,7 @@ public class ProductServiceImpl implements ProductService {
 	}
 	
 	@Override
+	@CacheEvict(cacheNames = AppConstant.CacheNames.PRODUCTS, key = "#result.productId")
 	public ProductDto save(final ProductDto productDto) {
 		log.info("*** ProductDto, service; save product *");
 		return ProductMappingHelper.map(this.productRepository
@@ -50,6 +80,7 @@ public class ProductServiceImpl implements ProductService {
 	}
 	
 	@Override
+	@CacheEvict(cacheNames = AppConstant.CacheNames.PRODUCTS, key = "#productDto.productId", condition = "#productDto.productId != null")
 	public ProductDto update(final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product *");
 		return ProductMappingHelper.map(this.productRepository
@@ -57,6 +88,7 @@ public class ProductServiceImpl implements ProductService {
 	}
 	
 	@Override
+	@CacheEvict(cacheNames = AppConstant.CacheNames.PRODUCTS, key = "#productId")
 	public ProductDto update(final Integer productId, final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product with productId *");
 		return ProductMappingHelper.map(this.productRepository
@@ -64,6 +96,7 @@ public class ProductServiceImpl implements ProductService {
 	}
 	
 	@Override
+	@CacheEvict(cacheNames = AppConstant.CacheNames.PRODUCTS, key = "#productId")
 	public void deleteById(final Integer productId) {
 		log.info("*** Void, service; delete product by id *");
 		this.productRepository.delete(ProductMappingHelper
@@ -1,7 +1,10 @@
 package com.selimhorri.app;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
@@ -17,15 +20,22 @@ import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Category;
 import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.helper.ProductMappingHelper;
 import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.CatalogSnapshotService;
 import com.selimhorri.app.service.ProductService;
 
 /**
@@ -50,12 +60,20 @@ public class ProductTests {
     @MockBean
     private ProductRepository productRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
     private Product product1;
     private Product product2;
     private Category category;
 
     @BeforeEach
     void setUp() {
+        catalogSnapshotService.invalidate();
+
         // Configurar datos de prueba
         category = Category.builder()
                 .categoryId(1)
@@ -170,6 +188,25 @@ public class ProductTests {
         assertThat(result.getProductTitle()).isEqualTo("Keyboard Mechanical");
     }
 
+    @Test
+    @DisplayName("Unit Test: findById() debe servir lecturas repetidas desde la caché hasta que save() la invalide")
+    void testFindProductByIdIsCached_Unit() {
+        // Arrange
+        cacheManager.getCache(AppConstant.CacheNames.PRODUCTS).clear();
+        when(productRepository.findById(1)).thenReturn(Optional.of(product1));
+        when(productRepository.save(any(Product.class))).thenReturn(product1);
+
+        // Act - Dos lecturas, una escritura, una lectura
+        productService.findById(1);
+        productService.findById(1);
+        productService.save(ProductMappingHelper.map(product1));
+        ProductDto productDto = productService.findById(1);
+
+        // Assert - Solo la primera lectura y la posterior a la invalidación llegan al repositorio
+        assertThat(productDto.getProductTitle()).isEqualTo("Laptop HP");
+        verify(productRepository, times(2)).findById(1);
+    }
+
     // ==========================================
     // PRUEBAS DE INTEGRACIÓN
     // Usan @SpringBootTest con RANDOM_PORT y TestRestTemplate
@@ -224,6 +261,102 @@ public class ProductTests {
         assertThat(response.getBody()).contains("899.99");
     }
 
+    @Test
+    @DisplayName("Integration Test: Debe retornar 304 cuando If-None-Match coincide con el ETag de la representación")
+    void testGetProductByIdNotModified_Integration() {
+        // Arrange
+        when(productRepository.findById(1)).thenReturn(Optional.of(product1));
+        when(productRepository.findById(2)).thenReturn(Optional.of(product2));
+        String url = "http://localhost:" + port + "/product-service/api/products/1";
+        ResponseEntity<String> first = restTemplate.getForEntity(url, String.class);
+        ResponseEntity<String> other = restTemplate.getForEntity(
+                "http://localhost:" + port + "/product-service/api/products/2", String.class);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(first.getHeaders().getETag());
+
+        // Act - Petición condicional con el ETag recibido
+        ResponseEntity<String> second = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        // Assert - Sin cuerpo y con el mismo ETag; cada producto tiene su propio ETag
+        assertThat(first.getHeaders().getETag()).startsWith("\"");
+        assertThat(other.getHeaders().getETag()).isNotEqualTo(first.getHeaders().getETag());
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getBody()).isNull();
+        assertThat(second.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Integration Test: Debe retornar en streaming los productos solicitados al hacer GET a /api/products?ids=")
+    void testGetProductsByIds_Integration() {
+        // Arrange
+        when(productRepository.findAllById(Arrays.asList(1, 2))).thenReturn(Arrays.asList(product1, product2));
+
+        // Act - Petición HTTP real al endpoint de consulta por lote
+        String url = "http://localhost:" + port + "/product-service/api/products?ids=2,1,2";
+        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("\"collection\"");
+        assertThat(response.getBody()).contains("Laptop HP");
+        assertThat(response.getBody()).contains("Mouse Logitech");
+    }
+
+    @Test
+    @DisplayName("Integration Test: Debe retornar una página con nextCursor al hacer GET a /api/products?after=&limit=")
+    void testGetProductsPage_Integration() {
+        // Arrange
+        when(productRepository.findAll()).thenReturn(Arrays.asList(product1, product2));
+
+        // Act - Petición HTTP real al endpoint paginado por cursor
+        String url = "http://localhost:" + port + "/product-service/api/products?after=0&limit=2";
+        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+
+        // Assert - Página llena: el cursor apunta al último id devuelto
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("Laptop HP");
+        assertThat(response.getBody()).containsPattern("\"nextCursor\"\\s*:\\s*2");
+    }
+
+    @Test
+    @DisplayName("Integration Test: Debe servir páginas posteriores al cursor desde el snapshot del catálogo")
+    void testGetProductsPageFromSnapshot_Integration() {
+        // Arrange
+        when(productRepository.findAll()).thenReturn(Arrays.asList(product1, product2));
+
+        // Act - Página que comienza después del primer producto
+        String url = "http://localhost:" + port + "/product-service/api/products?after=1&limit=1";
+        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+
+        // Assert - Solo el segundo producto y cursor al último id devuelto
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getBody()).contains("Mouse Logitech");
+        assertThat(response.getBody()).doesNotContain("Laptop HP");
+        assertThat(response.getBody()).containsPattern("\"nextCursor\"\\s*:\\s*2");
+    }
+
+    @Test
+    @DisplayName("Integration Test: La variante gzip de la página por defecto debe tener su propio ETag")
+    void testGetProductsGzipVariantETag_Integration() {
+        // Arrange
+        when(productRepository.findAll()).thenReturn(Arrays.asList(product1, product2));
+        String url = "http://localhost:" + port + "/product-service/api/products";
+        HttpHeaders identity = new HttpHeaders();
+        identity.set(HttpHeaders.ACCEPT_ENCODING, "identity");
+        HttpHeaders gzip = new HttpHeaders();
+        gzip.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        // Act - Misma URL con distinta codificación
+        ResponseEntity<byte[]> plain = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(identity), byte[].class);
+        ResponseEntity<byte[]> compressed = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(gzip), byte[].class);
+
+        // Assert - ETags distintos y Vary por Accept-Encoding
+        assertThat(compressed.getHeaders().getETag()).endsWith("-gzip\"");
+        assertThat(compressed.getHeaders().getETag()).isNotEqualTo(plain.getHeaders().getETag());
+        assertThat(compressed.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+    }
+
     @Test
     @DisplayName("Integration Test: Contexto de aplicación debe cargar correctamente")
     void testContextLoads_Integration() {
@@ -0,0 +1,87 @@
+package com.selimhorri.app.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.dto.CategoryDto;
+
+/**
+ * Pruebas de Repositorio para CategoryRepository
+ * - H2 en memoria con estadísticas de Hibernate: cuenta las sentencias preparadas por cada lectura
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("CategoryRepository - Statement Count Tests")
+class CategoryRepositoryTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // Jerarquía de tres niveles: Electronics > Computers > Laptops
+        Category electronics = testEntityManager.persist(Category.builder().categoryTitle("Electronics").build());
+        Category computers = testEntityManager.persist(Category.builder().categoryTitle("Computers").parentCategory(electronics).build());
+        testEntityManager.persist(Category.builder().categoryTitle("Laptops").parentCategory(computers).build());
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findAll() - Debe leer la jerarquía completa con una sola sentencia")
+    void testFindAll_ShouldPrepareSingleStatement() {
+        // Act
+        List<Category> result = categoryRepository.findAll();
+
+        // Assert
+        assertThat(result).hasSize(3);
+        assertThat(result)
+                .filteredOn(category -> category.getParentCategory() != null)
+                .extracting(category -> category.getParentCategory().getCategoryTitle())
+                .containsExactlyInAnyOrder("Electronics", "Computers");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findDtosByCategoryIdGreaterThan() - Debe leer cada página con una sola sentencia")
+    void testFindDtosByCategoryIdGreaterThan_ShouldPrepareSingleStatementPerPage() {
+        // Act
+        List<CategoryDto> firstPage = categoryRepository.findDtosByCategoryIdGreaterThan(0, PageRequest.of(0, 2));
+        List<CategoryDto> secondPage = categoryRepository.findDtosByCategoryIdGreaterThan(
+                firstPage.get(firstPage.size() - 1).getCategoryId(), PageRequest.of(0, 2));
+
+        // Assert
+        assertThat(firstPage).extracting(CategoryDto::getCategoryTitle).containsExactly("Electronics", "Computers");
+        assertThat(firstPage.get(0).getParentCategoryDto().getCategoryId()).isNull();
+        assertThat(secondPage).extracting(CategoryDto::getCategoryTitle).containsExactly("Laptops");
+        assertThat(secondPage.get(0).getParentCategoryDto().getCategoryTitle()).isEqualTo("Computers");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.selimhorri.app.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+
+/**
+ * Pruebas de Repositorio para ProductRepository
+ * - H2 en memoria con estadísticas de Hibernate: cuenta las sentencias preparadas por cada lectura
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("ProductRepository - Statement Count Tests")
+class ProductRepositoryTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // Dos categorías y un producto sin categoría
+        Category electronics = testEntityManager.persist(Category.builder().categoryTitle("Electronics").build());
+        Category books = testEntityManager.persist(Category.builder().categoryTitle("Books").build());
+        testEntityManager.persist(product("SKU-1", electronics));
+        testEntityManager.persist(product("SKU-2", books));
+        testEntityManager.persist(product("SKU-3", null));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findAll() - Debe leer productos y sus categorías con una sola sentencia")
+    void testFindAll_ShouldPrepareSingleStatement() {
+        // Act
+        List<Product> result = productRepository.findAll();
+
+        // Assert
+        assertThat(result).hasSize(3);
+        assertThat(result)
+                .filteredOn(product -> product.getCategory() != null)
+                .extracting(product -> product.getCategory().getCategoryTitle())
+                .containsExactlyInAnyOrder("Electronics", "Books");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findDtosByProductIdGreaterThan() - Debe leer cada página con una sola sentencia, incluidos productos sin categoría")
+    void testFindDtosByProductIdGreaterThan_ShouldPrepareSingleStatementPerPage() {
+        // Act
+        List<ProductDto> firstPage = productRepository.findDtosByProductIdGreaterThan(0, PageRequest.of(0, 2));
+        List<ProductDto> secondPage = productRepository.findDtosByProductIdGreaterThan(
+                firstPage.get(firstPage.size() - 1).getProductId(), PageRequest.of(0, 2));
+
+        // Assert
+        assertThat(firstPage).extracting(ProductDto::getSku).containsExactly("SKU-1", "SKU-2");
+        assertThat(firstPage.get(0).getCategoryDto().getCategoryTitle()).isEqualTo("Electronics");
+        assertThat(secondPage).extracting(ProductDto::getSku).containsExactly("SKU-3");
+        assertThat(secondPage.get(0).getCategoryDto().getCategoryId()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private static Product product(final String sku, final Category category) {
+        return Product.builder()
+                .productTitle("Product " + sku)
+                .sku(sku)
+                .priceUnit(10.0)
+                .quantity(5)
+                .category(category)
+                .build();
+    }
+
+}
@@ -16,11 +16,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.helper.ProductMappingHelper;
 import com.selimhorri.app.repository.ProductRepository;
 import com.selimhorri.app.service.impl.ProductServiceImpl;
 
@@ -120,6 +122,39 @@ class ProductServiceUnitTest {
         verify(productRepository, times(1)).findAll();
     }
 
+    @Test
+    @DisplayName("findAllByIds() - Debe retornar solo los productos solicitados")
+    void testFindAllByIds_ShouldReturnRequestedProducts() {
+        // Arrange
+        when(productRepository.findAllById(Arrays.asList(1, 2))).thenReturn(Arrays.asList(product1, product2));
+
+        // Act
+        List<ProductDto> result = productService.findAllByIds(Arrays.asList(1, 2));
+
+        // Assert
+        assertNotNull(result);
+        assertEquals(2, result.size(), "Debe retornar 2 productos");
+        assertEquals("Laptop Dell", result.get(0).getProductTitle());
+        verify(productRepository, times(1)).findAllById(Arrays.asList(1, 2));
+        verify(productRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("findAll(after, limit) - Debe consultar solo la página posterior al cursor")
+    void testFindAllPage_ShouldQueryAfterCursor() {
+        // Arrange
+        when(productRepository.findDtosByProductIdGreaterThan(1, PageRequest.of(0, 10)))
+                .thenReturn(Arrays.asList(ProductMappingHelper.map(product2)));
+
+        // Act
+        List<ProductDto> result = productService.findAll(1, 10);
+
+        // Assert
+        assertEquals(1, result.size(), "Debe retornar solo los productos posteriores al cursor");
+        assertEquals(2, result.get(0).getProductId());
+        verify(productRepository, never()).findAll();
+    }
+
     @Test
     @DisplayName("findById() - Debe retornar producto cuando existe")
     void testFindById_ShouldReturnProduct_WhenExists() {
@@ -0,0 +1,44 @@
+package com.selimhorri.app.business.order.controller;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.business.order.model.CheckoutDto;
+import com.selimhorri.app.business.order.service.CheckoutClientService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/checkouts")
+@RequiredArgsConstructor
+public class CheckoutController {
+	
+	private final CheckoutClientService checkoutClientService;
+	
+	@PostMapping
+	public ResponseEntity<CheckoutDto> checkout(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final CheckoutDto checkoutDto) {
+		return ResponseEntity.ok(this.checkoutClientService.checkout(checkoutDto).getBody());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
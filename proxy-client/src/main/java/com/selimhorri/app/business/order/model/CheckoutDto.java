@@ -0,0 +1,41 @@
+package com.selimhorri.app.business.order.model;
+
+import java.io.Serializable;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class CheckoutDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@JsonProperty("cart")
+	private CartDto cartDto;
+	
+	@JsonProperty("order")
+	private OrderDto orderDto;
+	
+	@JsonProperty("orderItems")
+	private List<OrderItemDto> orderItemDtos;
+	
+}
+
+
+
+
+
+
+
+
+
+
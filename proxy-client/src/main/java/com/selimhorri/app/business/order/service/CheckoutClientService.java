@@ -0,0 +1,32 @@
+package com.selimhorri.app.business.order.service;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import com.selimhorri.app.business.order.model.CheckoutDto;
+
+@FeignClient(name = "ORDER-SERVICE", contextId = "checkoutClientService", path = "/order-service/api/checkouts")
+public interface CheckoutClientService {
+	
+	@PostMapping
+	public ResponseEntity<CheckoutDto> checkout(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final CheckoutDto checkoutDto);
+	
+}
+
+
+
+
+
+
+
+
+
+
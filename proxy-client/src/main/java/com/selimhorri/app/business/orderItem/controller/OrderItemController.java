@@ -33,8 +33,13 @@ public class OrderItemController {
 	public ResponseEntity<OrderItemDto> findById(
 			@PathVariable("orderId") final String orderId, 
 			@PathVariable("productId") final String productId) {
-		return ResponseEntity.ok(this.orderItemClientService.findById(new OrderItemId(Integer.parseInt(productId), 
-				Integer.parseInt(orderId))).getBody());
+		return ResponseEntity.ok(this.orderItemClientService.findById(orderId, productId).getBody());
+	}
+	
+	@GetMapping("/order/{orderId}")
+	public ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAllByOrderId(
+			@PathVariable("orderId") final String orderId) {
+		return ResponseEntity.ok(this.orderItemClientService.findAllByOrderId(orderId).getBody());
 	}
 	
 	@GetMapping("/find")
@@ -56,8 +61,7 @@ public class OrderItemController {
 	public ResponseEntity<Boolean> deleteById(
 			@PathVariable("orderId") final String orderId, 
 			@PathVariable("productId") final String productId) {
-		this.orderItemClientService.deleteById(new OrderItemId(Integer.parseInt(orderId), 
-				Integer.parseInt(productId))).getBody();
+		this.orderItemClientService.deleteById(orderId, productId).getBody();
 		return ResponseEntity.ok(true);
 	}
 	
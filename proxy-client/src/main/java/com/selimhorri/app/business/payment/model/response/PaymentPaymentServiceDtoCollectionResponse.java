@@ -18,5 +18,6 @@ public class PaymentPaymentServiceDtoCollectionResponse implements Serializable
 	
 	private static final long serialVersionUID = 1L;
 	private Collection<PaymentDto> collection;
+	private Integer nextCursor;
 	
 }
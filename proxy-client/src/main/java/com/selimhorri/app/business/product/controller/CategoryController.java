@@ -1,5 +1,6 @@
 package com.selimhorri.app.business.product.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -7,12 +8,15 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.product.model.CategoryDto;
 import com.selimhorri.app.business.product.model.response.CategoryProductServiceCollectionDtoResponse;
 import com.selimhorri.app.business.product.service.CategoryClientService;
+import com.selimhorri.app.helper.ConditionalResponseHelper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,13 +28,18 @@ public class CategoryController {
 	private final CategoryClientService categoryClientService;
 	
 	@GetMapping
-	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.categoryClientService.findAll().getBody());
+	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll(
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch, 
+			@RequestParam(name = "after", required = false) final Integer after, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
+		return ConditionalResponseHelper.relay(this.categoryClientService.findAll(ifNoneMatch, after, limit));
 	}
 	
 	@GetMapping("/{categoryId}")
-	public ResponseEntity<CategoryDto> findById(@PathVariable("categoryId") final String categoryId) {
-		return ResponseEntity.ok(this.categoryClientService.findById(categoryId).getBody());
+	public ResponseEntity<CategoryDto> findById(
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch, 
+			@PathVariable("categoryId") final String categoryId) {
+		return ConditionalResponseHelper.relay(this.categoryClientService.findById(ifNoneMatch, categoryId));
 	}
 	
 	@PostMapping
@@ -1,5 +1,11 @@
 package com.selimhorri.app.business.user.controller;
 
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,11 +14,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.response.CredentialUserServiceCollectionDtoResponse;
 import com.selimhorri.app.business.user.service.CredentialClientService;
+import com.selimhorri.app.config.cache.TokenRevocationList;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,10 +30,13 @@ import lombok.RequiredArgsConstructor;
 public class CredentialController {
 	
 	private final CredentialClientService credentialClientService;
+	private final TokenRevocationList tokenRevocationList;
 	
 	@GetMapping
-	public ResponseEntity<CredentialUserServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.credentialClientService.findAll().getBody());
+	public ResponseEntity<CredentialUserServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "after", required = false) final Integer after, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
+		return ResponseEntity.ok(this.credentialClientService.findAll(after, limit).getBody());
 	}
 	
 	@GetMapping("/{credentialId}")
@@ -45,17 +56,44 @@ public class CredentialController {
 	
 	@PutMapping
 	public ResponseEntity<CredentialDto> update(@RequestBody final CredentialDto credentialDto) {
-		return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
+		final Set<String> usernames = this.affectedUsernames(Optional.ofNullable(credentialDto.getCredentialId())
+				.map(String::valueOf)
+				.orElse(null), credentialDto.getUsername());
+		final var updated = this.credentialClientService.update(credentialDto).getBody();
+		usernames.forEach(this.tokenRevocationList::revoke);
+		return ResponseEntity.ok(updated);
 	}
 	
 	@PutMapping("/{credentialId}")
 	public ResponseEntity<CredentialDto> update(@PathVariable("credentialId") final String credentialId, @RequestBody final CredentialDto credentialDto) {
-		return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
+		final Set<String> usernames = this.affectedUsernames(credentialId, credentialDto.getUsername());
+		final var updated = this.credentialClientService.update(credentialDto).getBody();
+		usernames.forEach(this.tokenRevocationList::revoke);
+		return ResponseEntity.ok(updated);
 	}
 	
 	@DeleteMapping("/{credentialId}")
 	public ResponseEntity<Boolean> deleteById(@PathVariable("credentialId") final String credentialId) {
-		return ResponseEntity.ok(this.credentialClientService.deleteById(credentialId).getBody());
+		final Set<String> usernames = this.affectedUsernames(credentialId, null);
+		final var deleted = this.credentialClientService.deleteById(credentialId).getBody();
+		usernames.forEach(this.tokenRevocationList::revoke);
+		return ResponseEntity.ok(deleted);
+	}
+	
+	/**
+	 * Usernames whose tokens a change to the credential invalidates: the one stored for it, read 
+	 * before the change because a rename replaces it, and the one in the request body. They are 
+	 * revoked only once user-service has applied the change, so a login racing the update cannot 
+	 * mint a token with the old claims that is issued after the revocation.
+	 */
+	private Set<String> affectedUsernames(final String credentialId, final String requestedUsername) {
+		final String currentUsername = (credentialId == null) ? null : 
+				Optional.ofNullable(this.credentialClientService.findById(credentialId).getBody())
+					.map(CredentialDto::getUsername)
+					.orElse(null);
+		return Stream.of(currentUsername, requestedUsername)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet());
 	}
 	
 	
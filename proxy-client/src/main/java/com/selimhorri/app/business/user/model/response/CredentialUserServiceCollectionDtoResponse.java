@@ -18,5 +18,6 @@ public class CredentialUserServiceCollectionDtoResponse implements Serializable
 	
 	private static final long serialVersionUID = 1L;
 	private Collection<CredentialDto> collection;
+	private Integer nextCursor;
 	
 }
@@ -18,5 +18,6 @@ public class UserUserServiceCollectionDtoResponse implements Serializable {
 	
 	private static final long serialVersionUID = 1L;
 	private Collection<UserDto> collection;
+	private Integer nextCursor;
 	
 }
@@ -18,5 +18,6 @@ public class VerificationUserTokenServiceCollectionDtoResponse implements Serial
 	
 	private static final long serialVersionUID = 1L;
 	private Collection<VerificationTokenDto> collection;
+	private Integer nextCursor;
 	
 }
@@ -0,0 +1,60 @@
+package com.selimhorri.app.config.cache;
+
+import java.util.Date;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.jwt.JwtProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Usernames whose tokens issued up to the revocation instant must no longer be accepted. 
+ * Entries only need to outlive the claims-carrying tokens, so they expire after the claims token ttl.
+ * The iat claim only has second precision, so the revocation instant is truncated to the second and 
+ * every token issued within that second is rejected too: a token minted just before the revocation 
+ * can never slip through, at the cost of re-authenticating a second later.
+ * The list lives in this instance's memory and is not shared: proxy-client is deployed as a single 
+ * instance (one fixed-name container), and a revocation only reaches the instance that handled the 
+ * credential change. Scaling proxy-client out requires a shared store or a broadcast of revocations, 
+ * otherwise the other replicas keep accepting revoked tokens until their claims expire.
+ */
+@Component
+@Slf4j
+public class TokenRevocationList {
+	
+	private final Cache<String, Long> revokedAt;
+	
+	public TokenRevocationList(final JwtProperties jwtProperties) {
+		this.revokedAt = Caffeine.newBuilder()
+				.maximumSize(jwtProperties.getRevocationMaximumSize())
+				.expireAfterWrite(jwtProperties.getClaimsTokenTtl())
+				.build();
+	}
+	
+	public void revoke(final String username) {
+		if (username == null)
+			return;
+		log.info("**TokenRevocationList, revoke tokens issued so far for username*\n");
+		this.revokedAt.put(username, System.currentTimeMillis() / 1000 * 1000);
+	}
+	
+	public boolean isRevoked(final String username, final Date issuedAt) {
+		final var revokedAt = this.revokedAt.getIfPresent(username);
+		return revokedAt != null && (issuedAt == null || issuedAt.getTime() <= revokedAt);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
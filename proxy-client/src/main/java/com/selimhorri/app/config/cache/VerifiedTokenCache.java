@@ -0,0 +1,113 @@
+package com.selimhorri.app.config.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.selimhorri.app.jwt.model.VerifiedClaims;
+
+/**
+ * Bounded cache of principals whose token already passed signature, expiration and subject checks.
+ * Entries are keyed by the SHA-256 of the raw token (the token itself is never retained) and expire
+ * at the token's exp claim, capped by max-ttl so account status changes are picked up eventually;
+ * revoked usernames are rejected on read.
+ */
+@Component
+public class VerifiedTokenCache {
+	
+	private final VerifiedTokenCacheProperties properties;
+	private final TokenRevocationList tokenRevocationList;
+	private final Cache<String, VerifiedPrincipal> cache;
+	
+	public VerifiedTokenCache(final VerifiedTokenCacheProperties properties, final TokenRevocationList tokenRevocationList) {
+		this.properties = properties;
+		this.tokenRevocationList = tokenRevocationList;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(properties.getMaximumSize())
+				.expireAfter(new VerifiedPrincipalExpiry())
+				.build();
+	}
+	
+	public UserDetails get(final String token) {
+		final var verified = this.cache.getIfPresent(hash(token));
+		if (verified == null || verified.expiresAtMillis <= System.currentTimeMillis()
+				|| this.tokenRevocationList.isRevoked(verified.userDetails.getUsername(), verified.issuedAt))
+			return null;
+		return verified.userDetails;
+	}
+	
+	public void put(final String token, final UserDetails userDetails, final VerifiedClaims claims) {
+		final long expiresAtMillis = Math.min(claims.getExpiration().getTime(), 
+				System.currentTimeMillis() + this.properties.getMaxTtl().toMillis());
+		this.cache.put(hash(token), new VerifiedPrincipal(userDetails, claims.getIssuedAt(), expiresAtMillis));
+	}
+	
+	private static String hash(final String token) {
+		try {
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(
+					MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static final class VerifiedPrincipal {
+		
+		private final UserDetails userDetails;
+		private final Date issuedAt;
+		private final long expiresAtMillis;
+		
+		private VerifiedPrincipal(final UserDetails userDetails, final Date issuedAt, final long expiresAtMillis) {
+			this.userDetails = userDetails;
+			this.issuedAt = issuedAt;
+			this.expiresAtMillis = expiresAtMillis;
+		}
+		
+	}
+	
+	private static final class VerifiedPrincipalExpiry implements Expiry<String, VerifiedPrincipal> {
+		
+		@Override
+		public long expireAfterCreate(final String key, final VerifiedPrincipal value, final long currentTime) {
+			return remainingNanos(value);
+		}
+		
+		@Override
+		public long expireAfterUpdate(final String key, final VerifiedPrincipal value, final long currentTime, 
+				final long currentDuration) {
+			return remainingNanos(value);
+		}
+		
+		@Override
+		public long expireAfterRead(final String key, final VerifiedPrincipal value, final long currentTime, 
+				final long currentDuration) {
+			return currentDuration;
+		}
+		
+		private static long remainingNanos(final VerifiedPrincipal value) {
+			return Math.max(0L, value.expiresAtMillis - System.currentTimeMillis()) * 1_000_000L;
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,18 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.verified-token-cache")
+@Data
+public class VerifiedTokenCacheProperties {
+	
+	private long maximumSize = 10_000;
+	private Duration maxTtl = Duration.ofMinutes(5);
+	
+}
@@ -0,0 +1,41 @@
+package com.selimhorri.app.config.feign;
+
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * The Feign transport itself is picked by feign.httpclient.enabled / feign.okhttp.enabled and
+ * tuned in proxy-client.yml; this only exports the Apache pool that backs it, when that is the
+ * transport in use.
+ */
+@Configuration
+public class FeignClientConfig {
+	
+	@Bean
+	public MeterBinder feignClientPoolMetricsBean(final ObjectProvider<HttpClientConnectionManager> connectionManager) {
+		return registry -> connectionManager.ifAvailable(manager -> {
+			if (manager instanceof PoolingHttpClientConnectionManager)
+				new PoolingHttpClientConnectionManagerMetricsBinder((PoolingHttpClientConnectionManager) manager, "feign")
+						.bindTo(registry);
+		});
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
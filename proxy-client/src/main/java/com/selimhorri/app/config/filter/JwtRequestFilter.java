@@ -1,6 +1,7 @@
 package com.selimhorri.app.config.filter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -15,6 +16,9 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.selimhorri.app.config.cache.TokenRevocationList;
+import com.selimhorri.app.config.cache.VerifiedTokenCache;
+import com.selimhorri.app.jwt.model.VerifiedClaims;
 import com.selimhorri.app.jwt.service.JwtService;
 
 import lombok.RequiredArgsConstructor;
@@ -27,6 +31,8 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 	
 	private final UserDetailsService userDetailsService;
 	private final JwtService jwtService;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final TokenRevocationList tokenRevocationList;
 	
 	@Override
 	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain) 
@@ -36,23 +42,25 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 		
 		final var authorizationHeader = request.getHeader("Authorization");
 		
-		String username = null;
-		String jwt = null;
-		
-		if ( authorizationHeader != null && authorizationHeader.startsWith("Bearer ") ) {
-			jwt = authorizationHeader.substring(7);
-			username = jwtService.extractUsername(jwt);
-		}
-		
-		if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+		if ( authorizationHeader != null && authorizationHeader.startsWith("Bearer ") 
+				&& SecurityContextHolder.getContext().getAuthentication() == null ) {
 			
-			final UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+			final String jwt = authorizationHeader.substring(7);
+			final UserDetails cachedUserDetails = this.verifiedTokenCache.get(jwt);
 			
-			if (this.jwtService.validateToken(jwt, userDetails)) {
-				final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
-						new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-				usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-				SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+			if (cachedUserDetails != null)
+				this.authenticate(request, cachedUserDetails);
+			else {
+				final VerifiedClaims claims = this.jwtService.parseVerifiedClaims(jwt);
+				if (!this.tokenRevocationList.isRevoked(claims.getSubject(), claims.getIssuedAt())) {
+					final UserDetails userDetails = Optional.ofNullable(this.jwtService.extractUserDetails(claims))
+							.orElseGet(() -> this.userDetailsService.loadUserByUsername(claims.getSubject()));
+					if (this.jwtService.validateClaims(claims, userDetails) 
+							&& userDetails.isEnabled() && userDetails.isAccountNonLocked()) {
+						this.verifiedTokenCache.put(jwt, userDetails, claims);
+						this.authenticate(request, userDetails);
+					}
+				}
 			}
 			
 		}
@@ -61,6 +69,13 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 		log.info("**Jwt request filtered!*\n");
 	}
 	
+	private void authenticate(final HttpServletRequest request, final UserDetails userDetails) {
+		final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
+				new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+		usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+		SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+	}
+	
 	
 	
 }
@@ -0,0 +1,45 @@
+package com.selimhorri.app.config.hedging;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HedgingConfig {
+	
+	/**
+	 * Wraps the load-balanced Feign client in place rather than replacing the feignClient bean, so the
+	 * transport picked by feign.httpclient / feign.okhttp stays the one requests are sent through
+	 * (hedged attempts reuse the feign.httpclient pool when there is one).
+	 */
+	@Bean
+	public static BeanPostProcessor hedgingFeignClientPostProcessorBean(final ObjectProvider<RequestHedger> requestHedger, 
+			final ObjectProvider<CloseableHttpClient> httpClient) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(final Object bean, final String beanName) throws BeansException {
+				if (!(bean instanceof FeignBlockingLoadBalancerClient))
+					return bean;
+				final var loadBalancedClient = (FeignBlockingLoadBalancerClient) bean;
+				return new HedgingFeignClient(loadBalancedClient, loadBalancedClient.getDelegate(), requestHedger.getObject(), 
+						httpClient.getIfUnique());
+			}
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,96 @@
+package com.selimhorri.app.config.hedging;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+
+/**
+ * Wraps the load-balanced Feign client: hedgeable GETs are resolved by the RequestHedger and sent
+ * through the underlying transport, everything else keeps going through the load balancer.
+ * When Feign runs on Apache HttpClient, each attempt is a plain HttpGet on that same client so the
+ * hedger can abort the losing one mid-exchange; 5xx answers count as failures.
+ */
+public class HedgingFeignClient implements Client {
+	
+	private final Client loadBalancedClient;
+	private final Client delegate;
+	private final RequestHedger requestHedger;
+	private final HttpClient httpClient;
+	
+	public HedgingFeignClient(final Client loadBalancedClient, final Client delegate, final RequestHedger requestHedger, 
+			final HttpClient httpClient) {
+		this.loadBalancedClient = loadBalancedClient;
+		this.delegate = delegate;
+		this.requestHedger = requestHedger;
+		this.httpClient = httpClient;
+	}
+	
+	@Override
+	public Response execute(final Request request, final Request.Options options) throws IOException {
+		
+		final var uri = URI.create(request.url());
+		if (!this.requestHedger.isHedgeable(request.httpMethod().name(), uri))
+			return this.loadBalancedClient.execute(request, options);
+		
+		final RequestHedger.Attempt<Response> attempt = (this.httpClient != null) 
+				? (resolvedUri, abortSignal) -> this.executeAbortable(request, options, resolvedUri, abortSignal) 
+				: (resolvedUri, abortSignal) -> this.executeBuffered(request, options, resolvedUri);
+		return this.requestHedger.execute(uri.getHost(), uri, attempt, response -> response.status() >= 500);
+	}
+	
+	public Client getDelegate() {
+		return this.delegate;
+	}
+	
+	private Response executeAbortable(final Request request, final Request.Options options, final URI resolvedUri, 
+			final RequestHedger.AbortSignal abortSignal) throws IOException {
+		final var attemptRequest = new HttpGet(resolvedUri);
+		attemptRequest.setConfig(RequestConfig.custom()
+				.setConnectTimeout(options.connectTimeoutMillis())
+				.setSocketTimeout(options.readTimeoutMillis())
+				.setRedirectsEnabled(options.isFollowRedirects())
+				.build());
+		request.headers().forEach((name, values) -> {
+			if (!Util.CONTENT_LENGTH.equalsIgnoreCase(name))
+				values.forEach(value -> attemptRequest.addHeader(name, value));
+		});
+		abortSignal.onAbort(attemptRequest::abort);
+		return this.httpClient.execute(attemptRequest, response -> {
+			final Map<String, Collection<String>> headers = new LinkedHashMap<>();
+			for (final var header : response.getAllHeaders())
+				headers.computeIfAbsent(header.getName(), name -> new ArrayList<>()).add(header.getValue());
+			return Response.builder()
+					.status(response.getStatusLine().getStatusCode())
+					.reason(response.getStatusLine().getReasonPhrase())
+					.headers(headers)
+					.request(request)
+					.body((response.getEntity() != null) ? EntityUtils.toByteArray(response.getEntity()) : null)
+					.build();
+		});
+	}
+	
+	private Response executeBuffered(final Request request, final Request.Options options, final URI resolvedUri) throws IOException {
+		try (final var response = this.delegate.execute(Request.create(request.httpMethod(), resolvedUri.toString(), 
+				request.headers(), request.body(), request.charset(), request.requestTemplate()), options)) {
+			return response.toBuilder()
+					.body((response.body() != null) ? Util.toByteArray(response.body().asInputStream()) : null)
+					.build();
+		}
+	}
+	
+	
+	
+}
@@ -0,0 +1,23 @@
+package com.selimhorri.app.config.jwt;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.jwt")
+@Data
+public class JwtProperties {
+	
+	/**
+	 * Embed role and account-status flags as signed claims so requests are authorized from the token alone.
+	 */
+	private boolean claimsEnabled = true;
+	private Duration claimsTokenTtl = Duration.ofHours(1);
+	private Duration legacyTokenTtl = Duration.ofHours(10);
+	private long revocationMaximumSize = 10_000;
+	
+}
@@ -0,0 +1,32 @@
+package com.selimhorri.app.config.template;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.http-client")
+@Data
+public class HttpClientProperties {
+	
+	private int maxTotal = 200;
+	private int maxPerRoute = 50;
+	private Duration connectTimeout = Duration.ofSeconds(2);
+	private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+	private Duration readTimeout = Duration.ofSeconds(5);
+	private Duration validateAfterInactivity = Duration.ofSeconds(2);
+	private Duration idleEviction = Duration.ofSeconds(30);
+	
+}
+
+
+
+
+
+
+
+
+
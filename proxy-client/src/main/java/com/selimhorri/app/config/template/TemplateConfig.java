@@ -1,17 +1,65 @@
 package com.selimhorri.app.config.template;
 
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * Unlike the services' ClientConfig, the pool and client are kept out of the context:
+ * exposing a CloseableHttpClient or HttpClientConnectionManager bean would make the Feign
+ * auto-configuration reuse them instead of building its own pool from feign.httpclient.*.
+ */
 @Configuration
 public class TemplateConfig {
 	
+	private final PoolingHttpClientConnectionManager connectionManager;
+	private final CloseableHttpClient httpClient;
+	
+	public TemplateConfig(final HttpClientProperties properties) {
+		this.connectionManager = new PoolingHttpClientConnectionManager();
+		this.connectionManager.setMaxTotal(properties.getMaxTotal());
+		this.connectionManager.setDefaultMaxPerRoute(properties.getMaxPerRoute());
+		this.connectionManager.setValidateAfterInactivity((int) properties.getValidateAfterInactivity().toMillis());
+		this.httpClient = HttpClients.custom()
+				.setConnectionManager(this.connectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectTimeout((int) properties.getConnectTimeout().toMillis())
+						.setConnectionRequestTimeout((int) properties.getConnectionRequestTimeout().toMillis())
+						.setSocketTimeout((int) properties.getReadTimeout().toMillis())
+						.build())
+				.evictExpiredConnections()
+				.evictIdleConnections(properties.getIdleEviction().toMillis(), TimeUnit.MILLISECONDS)
+				.build();
+	}
+	
+	@Bean
+	public MeterBinder httpClientPoolMetricsBean() {
+		return new PoolingHttpClientConnectionManagerMetricsBinder(this.connectionManager, "rest-template");
+	}
+	
 	@LoadBalanced
 	@Bean
 	public RestTemplate restTemplateBean() {
-		return new RestTemplate();
+		return new RestTemplate(new HttpComponentsClientHttpRequestFactory(this.httpClient));
+	}
+	
+	@PreDestroy
+	public void close() throws IOException {
+		this.httpClient.close();
 	}
 	
 	
@@ -16,6 +16,7 @@ import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.exception.wrapper.VerificationTokenNotFoundException;
+import com.selimhorri.app.helper.ConditionalResponseHelper;
 
 import feign.FeignException;
 import feign.FeignException.FeignClientException;
@@ -36,6 +37,9 @@ public class ApiExceptionHandler {
 	public <T extends FeignException> ResponseEntity<ExceptionMsg> handleProxyException(final T e) {
 		
 		log.info("**ApiExceptionHandler controller, handle feign proxy exception*\n");
+		if (e.status() == HttpStatus.NOT_MODIFIED.value())
+			return ConditionalResponseHelper.notModified(e);
+		
 		final var badRequest = HttpStatus.BAD_REQUEST;
 		
 		return new ResponseEntity<>(
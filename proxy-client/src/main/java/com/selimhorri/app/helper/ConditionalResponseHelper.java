@@ -0,0 +1,36 @@
+package com.selimhorri.app.helper;
+
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import feign.FeignException;
+
+public interface ConditionalResponseHelper {
+	
+	public static <T> ResponseEntity<T> relay(final ResponseEntity<T> response) {
+		final var eTag = response.getHeaders().getETag();
+		return (eTag == null) ? ResponseEntity.ok(response.getBody()) : ResponseEntity.ok()
+				.eTag(eTag)
+				.body(response.getBody());
+	}
+	
+	/**
+	 * Feign surfaces an upstream 304 as an exception; turn it back into a bodiless 304 carrying the upstream ETag.
+	 */
+	public static <T> ResponseEntity<T> notModified(final FeignException e) {
+		final var headers = new HttpHeaders();
+		e.responseHeaders().getOrDefault(HttpHeaders.ETAG, List.of()).stream()
+				.findFirst()
+				.ifPresent(headers::setETag);
+		return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+	}
+	
+	
+	
+}
+
+
+
@@ -0,0 +1,54 @@
+package com.selimhorri.app.jwt.model;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Immutable view of the claims of a token whose signature has already been verified, 
+ * so callers can read any claim without parsing the token again.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class VerifiedClaims {
+	
+	String subject;
+	Date issuedAt;
+	Date expiration;
+	Map<String, Object> claims;
+	
+	public static VerifiedClaims of(final Claims claims) {
+		return new VerifiedClaims(
+				claims.getSubject(), 
+				copyOf(claims.getIssuedAt()), 
+				copyOf(claims.getExpiration()), 
+				Collections.unmodifiableMap(new LinkedHashMap<>(claims)));
+	}
+	
+	public Date getIssuedAt() {
+		return copyOf(this.issuedAt);
+	}
+	
+	public Date getExpiration() {
+		return copyOf(this.expiration);
+	}
+	
+	public boolean isExpired() {
+		return this.expiration != null && this.expiration.before(new Date());
+	}
+	
+	public <T> T get(final String claimName, final Class<T> requiredType) {
+		return requiredType.cast(this.claims.get(claimName));
+	}
+	
+	private static Date copyOf(final Date date) {
+		return (date != null) ? new Date(date.getTime()) : null;
+	}
+	
+}
@@ -6,6 +6,7 @@ import java.util.function.Function;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.jwt.model.VerifiedClaims;
 import com.selimhorri.app.jwt.service.JwtService;
 import com.selimhorri.app.jwt.util.JwtUtil;
 
@@ -50,6 +51,24 @@ public class JwtServiceImpl implements JwtService {
 		return this.jwtUtil.validateToken(token, userDetails);
 	}
 	
+	@Override
+	public VerifiedClaims parseVerifiedClaims(final String token) {
+		log.info("**VerifiedClaims, jwt service parse and verify given token once!*");
+		return this.jwtUtil.parseVerifiedClaims(token);
+	}
+	
+	@Override
+	public Boolean validateClaims(final VerifiedClaims claims, final UserDetails userDetails) {
+		log.info("**Boolean, jwt service validate already parsed claims against userDetails!*");
+		return this.jwtUtil.validateClaims(claims, userDetails);
+	}
+	
+	@Override
+	public UserDetails extractUserDetails(final VerifiedClaims claims) {
+		log.info("**UserDetails, jwt service build userDetails from claims-carrying token!*");
+		return this.jwtUtil.extractUserDetails(claims);
+	}
+	
 	
 	
 }
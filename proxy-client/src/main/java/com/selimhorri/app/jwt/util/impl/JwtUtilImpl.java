@@ -1,5 +1,6 @@
 package com.selimhorri.app.jwt.util.impl;
 
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -8,16 +9,30 @@ import java.util.function.Function;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.model.VerifiedClaims;
 import com.selimhorri.app.jwt.util.JwtUtil;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.RequiredArgsConstructor;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtilImpl implements JwtUtil {
 	
 	private static final String SECRET_KEY = "secret";
+	private static final String ROLE_CLAIM = "role";
+	private static final String ENABLED_CLAIM = "enabled";
+	private static final String ACCOUNT_NON_EXPIRED_CLAIM = "accountNonExpired";
+	private static final String ACCOUNT_NON_LOCKED_CLAIM = "accountNonLocked";
+	private static final String CREDENTIALS_NON_EXPIRED_CLAIM = "credentialsNonExpired";
+	
+	private final JwtProperties jwtProperties;
 	
 	@Override
 	public String extractUsername(final String token) {
@@ -39,34 +54,63 @@ public class JwtUtilImpl implements JwtUtil {
 		return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
 	}
 	
-	private Boolean isTokenExpired(final String token) {
-		return this.extractExpiration(token).before(new Date());
-	}
-	
 	@Override
 	public String generateToken(final UserDetails userDetails) {
 		final Map<String, Object> claims = new HashMap<>();
-		return this.createToken(claims, userDetails.getUsername());
+		if (!this.jwtProperties.isClaimsEnabled())
+			return this.createToken(claims, userDetails.getUsername(), this.jwtProperties.getLegacyTokenTtl());
+		userDetails.getAuthorities().stream()
+				.findFirst()
+				.ifPresent(authority -> claims.put(ROLE_CLAIM, authority.getAuthority()));
+		claims.put(ENABLED_CLAIM, userDetails.isEnabled());
+		claims.put(ACCOUNT_NON_EXPIRED_CLAIM, userDetails.isAccountNonExpired());
+		claims.put(ACCOUNT_NON_LOCKED_CLAIM, userDetails.isAccountNonLocked());
+		claims.put(CREDENTIALS_NON_EXPIRED_CLAIM, userDetails.isCredentialsNonExpired());
+		return this.createToken(claims, userDetails.getUsername(), this.jwtProperties.getClaimsTokenTtl());
 	}
 	
-	private String createToken(final Map<String, Object> claims, final String subject) {
+	private String createToken(final Map<String, Object> claims, final String subject, final Duration ttl) {
 		return Jwts.builder()
 					.setClaims(claims)
 					.setSubject(subject)
 					.setIssuedAt(new Date(System.currentTimeMillis()))
-					.setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
+					.setExpiration(new Date(System.currentTimeMillis() + ttl.toMillis()))
 					.signWith(SignatureAlgorithm.HS256, SECRET_KEY)
 		.compact();
 	}
 	
 	@Override
 	public Boolean validateToken(final String token, final UserDetails userDetails) {
-		final String username = this.extractUsername(token);
+		return this.validateClaims(this.parseVerifiedClaims(token), userDetails);
+	}
+	
+	@Override
+	public VerifiedClaims parseVerifiedClaims(final String token) {
+		return VerifiedClaims.of(this.extractAllClaims(token));
+	}
+	
+	@Override
+	public Boolean validateClaims(final VerifiedClaims claims, final UserDetails userDetails) {
 		return (
-			username.equals(userDetails.getUsername()) && !isTokenExpired(token)
+			claims.getSubject().equals(userDetails.getUsername()) && !claims.isExpired()
 		);
 	}
 	
+	@Override
+	public UserDetails extractUserDetails(final VerifiedClaims claims) {
+		final String role = claims.get(ROLE_CLAIM, String.class);
+		if (role == null)
+			return null;
+		return new UserDetailsImpl(CredentialDto.builder()
+				.username(claims.getSubject())
+				.roleBasedAuthority(RoleBasedAuthority.valueOf(role))
+				.isEnabled(Boolean.TRUE.equals(claims.get(ENABLED_CLAIM, Boolean.class)))
+				.isAccountNonExpired(Boolean.TRUE.equals(claims.get(ACCOUNT_NON_EXPIRED_CLAIM, Boolean.class)))
+				.isAccountNonLocked(Boolean.TRUE.equals(claims.get(ACCOUNT_NON_LOCKED_CLAIM, Boolean.class)))
+				.isCredentialsNonExpired(Boolean.TRUE.equals(claims.get(CREDENTIALS_NON_EXPIRED_CLAIM, Boolean.class)))
+				.build());
+	}
+	
 	
 	
 }
@@ -0,0 +1,124 @@
+package com.selimhorri.app.business.user.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.http.ResponseEntity;
+
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.service.CredentialClientService;
+import com.selimhorri.app.config.cache.TokenRevocationList;
+import com.selimhorri.app.config.jwt.JwtProperties;
+
+/**
+ * Pruebas Unitarias para CredentialController
+ * - Sin contexto de Spring: revocación de tokens al cambiar o borrar una credencial
+ */
+@DisplayName("CredentialController - Unit Tests")
+class CredentialControllerTest {
+
+    private CredentialClientService credentialClientService;
+    private TokenRevocationList tokenRevocationList;
+    private CredentialController credentialController;
+    private Date issuedBefore;
+
+    @BeforeEach
+    void setUp() {
+        credentialClientService = mock(CredentialClientService.class);
+        tokenRevocationList = new TokenRevocationList(new JwtProperties());
+        credentialController = new CredentialController(credentialClientService, tokenRevocationList);
+        issuedBefore = new Date(System.currentTimeMillis() / 1000 * 1000 - 1000);
+        when(credentialClientService.findById("1"))
+                .thenReturn(ResponseEntity.ok(CredentialDto.builder().credentialId(1).username("alice").build()));
+    }
+
+    @Test
+    @DisplayName("update() - Un cambio de nombre debe revocar el nombre anterior y el nuevo")
+    void testUpdate_Rename_ShouldRevokeBothUsernames() {
+        // Arrange
+        CredentialDto renamed = CredentialDto.builder().credentialId(1).username("alice2").build();
+        when(credentialClientService.update(renamed)).thenReturn(ResponseEntity.ok(renamed));
+
+        // Act
+        credentialController.update("1", renamed);
+
+        // Assert
+        assertThat(tokenRevocationList.isRevoked("alice", issuedBefore)).isTrue();
+        assertThat(tokenRevocationList.isRevoked("alice2", issuedBefore)).isTrue();
+    }
+
+    @Test
+    @DisplayName("update() - Con el id en el cuerpo también debe revocar ambos nombres")
+    void testUpdateWithBodyId_Rename_ShouldRevokeBothUsernames() {
+        // Arrange
+        CredentialDto renamed = CredentialDto.builder().credentialId(1).username("alice2").build();
+        when(credentialClientService.update(renamed)).thenReturn(ResponseEntity.ok(renamed));
+
+        // Act
+        credentialController.update(renamed);
+
+        // Assert
+        assertThat(tokenRevocationList.isRevoked("alice", issuedBefore)).isTrue();
+        assertThat(tokenRevocationList.isRevoked("alice2", issuedBefore)).isTrue();
+    }
+
+    @Test
+    @DisplayName("update() - Debe leer el nombre guardado antes del cambio y revocar después de aplicarlo")
+    void testUpdate_ShouldRevokeAfterUpdate() {
+        // Arrange
+        TokenRevocationList revocationMock = mock(TokenRevocationList.class);
+        CredentialController controller = new CredentialController(credentialClientService, revocationMock);
+        CredentialDto renamed = CredentialDto.builder().credentialId(1).username("alice2").build();
+        when(credentialClientService.update(renamed)).thenReturn(ResponseEntity.ok(renamed));
+
+        // Act
+        controller.update("1", renamed);
+
+        // Assert
+        InOrder inOrder = inOrder(credentialClientService, revocationMock);
+        inOrder.verify(credentialClientService).findById("1");
+        inOrder.verify(credentialClientService).update(renamed);
+        inOrder.verify(revocationMock).revoke("alice");
+        verify(revocationMock).revoke("alice2");
+    }
+
+    @Test
+    @DisplayName("update() - Si user-service rechaza el cambio no debe revocar nada")
+    void testUpdate_Failure_ShouldNotRevoke() {
+        // Arrange
+        CredentialDto renamed = CredentialDto.builder().credentialId(1).username("alice2").build();
+        when(credentialClientService.update(renamed)).thenThrow(new IllegalStateException("user-service down"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> credentialController.update("1", renamed)).isInstanceOf(IllegalStateException.class);
+        assertThat(tokenRevocationList.isRevoked("alice", issuedBefore)).isFalse();
+        assertThat(tokenRevocationList.isRevoked("alice2", issuedBefore)).isFalse();
+    }
+
+    @Test
+    @DisplayName("deleteById() - Debe revocar el nombre guardado tras borrar la credencial")
+    void testDeleteById_ShouldRevokeStoredUsername() {
+        // Arrange
+        when(credentialClientService.deleteById("1")).thenReturn(ResponseEntity.ok(true));
+
+        // Act
+        credentialController.deleteById("1");
+
+        // Assert
+        assertThat(tokenRevocationList.isRevoked("alice", issuedBefore)).isTrue();
+        verify(credentialClientService, never()).update(any(CredentialDto.class));
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.selimhorri.app.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.config.jwt.JwtProperties;
+
+/**
+ * Pruebas Unitarias para TokenRevocationList
+ * - Sin contexto de Spring: iat tiene precisión de segundos, así que la revocación se trunca al segundo
+ */
+@DisplayName("TokenRevocationList - Unit Tests")
+class TokenRevocationListTest {
+
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationList = new TokenRevocationList(new JwtProperties());
+    }
+
+    @Test
+    @DisplayName("isRevoked() - Un token emitido antes de revoke() debe rechazarse")
+    void testIsRevoked_TokenIssuedBeforeRevocation_ShouldBeRejected() {
+        // Arrange
+        Date issuedAt = new Date(System.currentTimeMillis() / 1000 * 1000 - 1000);
+
+        // Act
+        tokenRevocationList.revoke("alice");
+
+        // Assert
+        assertThat(tokenRevocationList.isRevoked("alice", issuedAt)).isTrue();
+    }
+
+    @Test
+    @DisplayName("isRevoked() - Un token emitido en el mismo segundo que revoke() debe rechazarse")
+    void testIsRevoked_TokenIssuedInRevocationSecond_ShouldBeRejected() throws InterruptedException {
+        // Arrange
+        awaitNextSecond();
+
+        // Act
+        tokenRevocationList.revoke("alice");
+        Date issuedAt = new Date(System.currentTimeMillis() / 1000 * 1000);
+
+        // Assert: iat truncado al segundo, como lo serializa el JWT
+        assertThat(tokenRevocationList.isRevoked("alice", issuedAt)).isTrue();
+    }
+
+    @Test
+    @DisplayName("isRevoked() - Un token emitido en un segundo posterior a revoke() debe aceptarse")
+    void testIsRevoked_TokenIssuedAfterRevocation_ShouldBeAccepted() throws InterruptedException {
+        // Act
+        tokenRevocationList.revoke("alice");
+        awaitNextSecond();
+        Date issuedAt = new Date(System.currentTimeMillis() / 1000 * 1000);
+
+        // Assert
+        assertThat(tokenRevocationList.isRevoked("alice", issuedAt)).isFalse();
+    }
+
+    @Test
+    @DisplayName("isRevoked() - Solo debe afectar al usuario revocado; un token sin iat se rechaza")
+    void testIsRevoked_ShouldOnlyAffectRevokedUsername() {
+        // Act
+        tokenRevocationList.revoke("alice");
+        tokenRevocationList.revoke(null);
+
+        // Assert
+        assertThat(tokenRevocationList.isRevoked("bob", new Date(0))).isFalse();
+        assertThat(tokenRevocationList.isRevoked("alice", null)).isTrue();
+    }
+
+    private static void awaitNextSecond() throws InterruptedException {
+        Thread.sleep(1000 - System.currentTimeMillis() % 1000 + 50);
+    }
+
+}
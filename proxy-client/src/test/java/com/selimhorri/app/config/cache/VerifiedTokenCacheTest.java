@@ -0,0 +1,121 @@
+package com.selimhorri.app.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.model.VerifiedClaims;
+
+import io.jsonwebtoken.impl.DefaultClaims;
+
+/**
+ * Pruebas Unitarias para VerifiedTokenCache
+ * - Sin contexto de Spring: caducidad en min(exp, max-ttl) y rechazo de usuarios revocados
+ */
+@DisplayName("VerifiedTokenCache - Unit Tests")
+class VerifiedTokenCacheTest {
+
+    private VerifiedTokenCacheProperties properties;
+    private TokenRevocationList tokenRevocationList;
+    private VerifiedTokenCache verifiedTokenCache;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        properties = new VerifiedTokenCacheProperties();
+        tokenRevocationList = new TokenRevocationList(new JwtProperties());
+        verifiedTokenCache = new VerifiedTokenCache(properties, tokenRevocationList);
+        userDetails = new UserDetailsImpl(CredentialDto.builder()
+                .username("alice")
+                .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                .isEnabled(true)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(true)
+                .isCredentialsNonExpired(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("get() - Debe devolver el principal guardado solo para el mismo token")
+    void testGet_ShouldOnlyHitForSameToken() {
+        // Act
+        verifiedTokenCache.put("token-a", userDetails, claims(Duration.ofHours(1)));
+
+        // Assert
+        assertThat(verifiedTokenCache.get("token-a")).isSameAs(userDetails);
+        assertThat(verifiedTokenCache.get("token-a-tampered")).isNull();
+    }
+
+    @Test
+    @DisplayName("get() - La entrada debe caducar en max-ttl cuando exp es posterior")
+    void testGet_ShouldExpireAtMaxTtl() throws InterruptedException {
+        // Arrange
+        properties.setMaxTtl(Duration.ofMillis(200));
+        verifiedTokenCache = new VerifiedTokenCache(properties, tokenRevocationList);
+
+        // Act
+        verifiedTokenCache.put("token", userDetails, claims(Duration.ofHours(1)));
+        UserDetails beforeMaxTtl = verifiedTokenCache.get("token");
+        Thread.sleep(300);
+
+        // Assert
+        assertThat(beforeMaxTtl).isSameAs(userDetails);
+        assertThat(verifiedTokenCache.get("token")).isNull();
+    }
+
+    @Test
+    @DisplayName("get() - La entrada debe caducar en exp cuando es anterior a max-ttl")
+    void testGet_ShouldExpireAtTokenExpiration() throws InterruptedException {
+        // Act
+        verifiedTokenCache.put("token", userDetails, claims(Duration.ofMillis(200)));
+        UserDetails beforeExp = verifiedTokenCache.get("token");
+        Thread.sleep(300);
+
+        // Assert
+        assertThat(beforeExp).isSameAs(userDetails);
+        assertThat(verifiedTokenCache.get("token")).isNull();
+    }
+
+    @Test
+    @DisplayName("get() - Un token ya caducado no debe servirse")
+    void testGet_AlreadyExpiredToken_ShouldMiss() {
+        // Act
+        verifiedTokenCache.put("token", userDetails, claims(Duration.ofMillis(-1000)));
+
+        // Assert
+        assertThat(verifiedTokenCache.get("token")).isNull();
+    }
+
+    @Test
+    @DisplayName("get() - Un usuario revocado debe rechazarse aunque su token esté en la caché")
+    void testGet_RevokedUsername_ShouldMiss() {
+        // Arrange
+        verifiedTokenCache.put("token", userDetails, claims(Duration.ofHours(1)));
+
+        // Act
+        tokenRevocationList.revoke("alice");
+
+        // Assert
+        assertThat(verifiedTokenCache.get("token")).isNull();
+    }
+
+    private static VerifiedClaims claims(final Duration expiresIn) {
+        long issuedAt = System.currentTimeMillis() / 1000 * 1000 - 1000;
+        DefaultClaims claims = new DefaultClaims();
+        claims.setSubject("alice");
+        claims.setIssuedAt(new Date(issuedAt));
+        claims.setExpiration(new Date(System.currentTimeMillis() + expiresIn.toMillis()));
+        return VerifiedClaims.of(claims);
+    }
+
+}
@@ -0,0 +1,211 @@
+package com.selimhorri.app.config.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.config.cache.TokenRevocationList;
+import com.selimhorri.app.config.cache.VerifiedTokenCache;
+import com.selimhorri.app.config.cache.VerifiedTokenCacheProperties;
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.service.impl.JwtServiceImpl;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+
+/**
+ * Pruebas Unitarias para JwtRequestFilter
+ * - Sin contexto de Spring: autenticación a partir de las claims del token, lista de revocación
+ *   y caché de tokens ya verificados
+ */
+@DisplayName("JwtRequestFilter - Unit Tests")
+class JwtRequestFilterTest {
+
+    private JwtProperties jwtProperties;
+    private JwtUtilImpl jwtUtil;
+    private JwtServiceImpl jwtService;
+    private TokenRevocationList tokenRevocationList;
+    private JwtRequestFilter jwtRequestFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtUtil = new JwtUtilImpl(jwtProperties);
+        jwtService = spy(new JwtServiceImpl(jwtUtil));
+        tokenRevocationList = new TokenRevocationList(jwtProperties);
+        jwtRequestFilter = new JwtRequestFilter(
+                mock(UserDetailsService.class),
+                jwtService,
+                new VerifiedTokenCache(new VerifiedTokenCacheProperties(), tokenRevocationList),
+                tokenRevocationList);
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("doFilter() - Un token con claims válidas debe autenticar con el rol del token")
+    void testDoFilter_ValidClaims_ShouldAuthenticate() throws Exception {
+        // Arrange
+        String token = jwtUtil.generateToken(userDetails("alice", true, true));
+
+        // Act
+        Authentication authentication = filter(token);
+
+        // Assert
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("alice");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("doFilter() - Un token de un usuario deshabilitado no debe autenticar")
+    void testDoFilter_DisabledClaims_ShouldNotAuthenticate() throws Exception {
+        // Arrange
+        String token = jwtUtil.generateToken(userDetails("alice", false, true));
+
+        // Act & Assert
+        assertThat(filter(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("doFilter() - Un token de una cuenta bloqueada no debe autenticar")
+    void testDoFilter_LockedClaims_ShouldNotAuthenticate() throws Exception {
+        // Arrange
+        String token = jwtUtil.generateToken(userDetails("alice", true, false));
+
+        // Act & Assert
+        assertThat(filter(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("doFilter() - Un token emitido antes de revoke() se rechaza y uno emitido después se acepta")
+    void testDoFilter_RevokedUsername_ShouldOnlyAcceptTokensIssuedAfterRevocation() throws Exception {
+        // Arrange
+        awaitNextSecond();
+        String issuedBefore = jwtUtil.generateToken(userDetails("alice", true, true));
+        tokenRevocationList.revoke("alice");
+        // iat se trunca al segundo: un token del mismo segundo que la revocación sigue revocado
+        String issuedSameSecond = jwtUtil.generateToken(userDetails("alice", true, true));
+        awaitNextSecond();
+        String issuedAfter = jwtUtil.generateToken(userDetails("alice", true, true));
+
+        // Act & Assert
+        assertThat(filter(issuedBefore)).isNull();
+        assertThat(filter(issuedSameSecond)).isNull();
+        assertThat(filter(issuedAfter)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("doFilter() - Un acierto en la caché no debe volver a verificar el token")
+    void testDoFilter_CacheHit_ShouldSkipReverification() throws Exception {
+        // Arrange
+        String token = jwtUtil.generateToken(userDetails("alice", true, true));
+
+        // Act
+        Authentication first = filter(token);
+        Authentication second = filter(token);
+
+        // Assert
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(second.getName()).isEqualTo("alice");
+        verify(jwtService, times(1)).parseVerifiedClaims(anyString());
+    }
+
+    @Test
+    @DisplayName("doFilter() - Un token manipulado nunca debe servirse desde la caché")
+    void testDoFilter_TamperedToken_ShouldNotBeServedFromCache() throws Exception {
+        // Arrange
+        String token = jwtUtil.generateToken(userDetails("alice", true, true));
+        String forged = jwtUtil.generateToken(userDetails("mallory", true, true));
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + forged.split("\\.")[1] + "." + parts[2];
+        assertThat(filter(token)).isNotNull();
+
+        // Act & Assert
+        assertThatThrownBy(() -> filter(tampered)).isInstanceOf(JwtException.class);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(jwtService, times(1)).parseVerifiedClaims(tampered);
+    }
+
+    @Test
+    @DisplayName("doFilter() - Un token caducado no debe servirse desde la caché")
+    void testDoFilter_ExpiredToken_ShouldNotBeServedFromCache() throws Exception {
+        // Arrange
+        jwtProperties.setClaimsTokenTtl(Duration.ofSeconds(1));
+        String token = jwtUtil.generateToken(userDetails("alice", true, true));
+        assertThat(filter(token)).isNotNull();
+
+        // Act
+        Thread.sleep(2100);
+
+        // Assert
+        assertThatThrownBy(() -> filter(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("doFilter() - Un token revocado debe rechazarse aunque esté en la caché")
+    void testDoFilter_RevokedWhileCached_ShouldBeRejected() throws Exception {
+        // Arrange
+        awaitNextSecond();
+        String token = jwtUtil.generateToken(userDetails("alice", true, true));
+        assertThat(filter(token)).isNotNull();
+
+        // Act
+        tokenRevocationList.revoke("alice");
+
+        // Assert
+        assertThat(filter(token)).isNull();
+    }
+
+    private Authentication filter(final String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtRequestFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static void awaitNextSecond() throws InterruptedException {
+        Thread.sleep(1000 - System.currentTimeMillis() % 1000 + 50);
+    }
+
+    private static UserDetails userDetails(final String username, final boolean enabled, final boolean accountNonLocked) {
+        return new UserDetailsImpl(CredentialDto.builder()
+                .username(username)
+                .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                .isEnabled(enabled)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(accountNonLocked)
+                .isCredentialsNonExpired(true)
+                .build());
+    }
+
+}
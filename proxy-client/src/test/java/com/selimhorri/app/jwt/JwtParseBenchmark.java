@@ -0,0 +1,73 @@
+package com.selimhorri.app.jwt;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+/**
+ * Per-request CPU cost of token validation in JwtRequestFilter.
+ * Not picked up by surefire; run main() (or org.openjdk.jmh.Main) on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParseBenchmark {
+	
+	private JwtUtilImpl jwtUtil;
+	private UserDetails userDetails;
+	private String token;
+	
+	@Setup
+	public void setUp() {
+		this.jwtUtil = new JwtUtilImpl(new JwtProperties());
+		this.userDetails = new User("selimhorri", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+		this.token = this.jwtUtil.generateToken(this.userDetails);
+	}
+	
+	/**
+	 * Previous filter path: extractUsername, then validateToken re-extracting username and expiration.
+	 */
+	@Benchmark
+	public boolean multiParse() {
+		final String username = this.jwtUtil.extractUsername(this.token);
+		return username.equals(this.userDetails.getUsername())
+				&& this.jwtUtil.extractUsername(this.token).equals(this.userDetails.getUsername())
+				&& !this.jwtUtil.extractExpiration(this.token).before(new Date());
+	}
+	
+	@Benchmark
+	public boolean singleParse() {
+		return this.jwtUtil.validateClaims(this.jwtUtil.parseVerifiedClaims(this.token), this.userDetails);
+	}
+	
+	public static void main(final String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(JwtParseBenchmark.class.getSimpleName())
+				.build())
+			.run();
+	}
+	
+}
@@ -0,0 +1,124 @@
+package com.selimhorri.app.jwt.util.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.model.VerifiedClaims;
+
+import io.jsonwebtoken.JwtException;
+
+/**
+ * Pruebas Unitarias para JwtUtilImpl
+ * - Sin contexto de Spring: ida y vuelta de las claims de rol y estado de cuenta en el token firmado
+ */
+@DisplayName("JwtUtilImpl - Unit Tests")
+class JwtUtilImplTest {
+
+    private JwtProperties jwtProperties;
+    private JwtUtilImpl jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtUtil = new JwtUtilImpl(jwtProperties);
+    }
+
+    @Test
+    @DisplayName("generateToken() - Las claims de rol y estado deben sobrevivir la ida y vuelta")
+    void testGenerateToken_ShouldRoundTripRoleAndStatusClaims() {
+        // Arrange
+        UserDetails userDetails = userDetails("alice", RoleBasedAuthority.ROLE_ADMIN, true, false);
+
+        // Act
+        VerifiedClaims claims = jwtUtil.parseVerifiedClaims(jwtUtil.generateToken(userDetails));
+        UserDetails extracted = jwtUtil.extractUserDetails(claims);
+
+        // Assert
+        assertThat(extracted.getUsername()).isEqualTo("alice");
+        assertThat(extracted.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+        assertThat(extracted.isEnabled()).isTrue();
+        assertThat(extracted.isAccountNonLocked()).isFalse();
+        assertThat(extracted.isAccountNonExpired()).isTrue();
+        assertThat(extracted.isCredentialsNonExpired()).isTrue();
+        assertThat(jwtUtil.validateClaims(claims, extracted)).isTrue();
+    }
+
+    @Test
+    @DisplayName("generateToken() - Un usuario deshabilitado debe quedar deshabilitado en las claims")
+    void testGenerateToken_ShouldCarryDisabledStatus() {
+        // Act
+        UserDetails extracted = jwtUtil.extractUserDetails(jwtUtil.parseVerifiedClaims(
+                jwtUtil.generateToken(userDetails("bob", RoleBasedAuthority.ROLE_USER, false, true))));
+
+        // Assert
+        assertThat(extracted.isEnabled()).isFalse();
+        assertThat(extracted.isAccountNonLocked()).isTrue();
+    }
+
+    @Test
+    @DisplayName("generateToken() - El token con claims debe caducar tras claims-token-ttl")
+    void testGenerateToken_ShouldUseClaimsTokenTtl() {
+        // Act
+        VerifiedClaims claims = jwtUtil.parseVerifiedClaims(
+                jwtUtil.generateToken(userDetails("alice", RoleBasedAuthority.ROLE_USER, true, true)));
+
+        // Assert: iat y exp se serializan con precisión de segundos
+        assertThat(claims.getExpiration().getTime() - claims.getIssuedAt().getTime())
+                .isCloseTo(jwtProperties.getClaimsTokenTtl().toMillis(), within(1000L));
+    }
+
+    @Test
+    @DisplayName("generateToken() - Con claims desactivadas el token no debe llevar rol ni estado")
+    void testGenerateToken_LegacyTokenShouldCarryNoClaims() {
+        // Arrange
+        jwtProperties.setClaimsEnabled(false);
+
+        // Act
+        VerifiedClaims claims = jwtUtil.parseVerifiedClaims(
+                jwtUtil.generateToken(userDetails("alice", RoleBasedAuthority.ROLE_USER, true, true)));
+
+        // Assert
+        assertThat(jwtUtil.extractUserDetails(claims)).isNull();
+        assertThat(claims.getExpiration().getTime() - claims.getIssuedAt().getTime())
+                .isCloseTo(Duration.ofHours(10).toMillis(), within(1000L));
+    }
+
+    @Test
+    @DisplayName("parseVerifiedClaims() - Debe rechazar un token con la carga manipulada")
+    void testParseVerifiedClaims_ShouldRejectTamperedToken() {
+        // Arrange
+        String token = jwtUtil.generateToken(userDetails("alice", RoleBasedAuthority.ROLE_USER, true, true));
+        String forged = jwtUtil.generateToken(userDetails("alice", RoleBasedAuthority.ROLE_ADMIN, true, true));
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + forged.split("\\.")[1] + "." + parts[2];
+
+        // Act & Assert
+        assertThatThrownBy(() -> jwtUtil.parseVerifiedClaims(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    static UserDetails userDetails(final String username, final RoleBasedAuthority role,
+            final boolean enabled, final boolean accountNonLocked) {
+        return new UserDetailsImpl(CredentialDto.builder()
+                .username(username)
+                .roleBasedAuthority(role)
+                .isEnabled(enabled)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(accountNonLocked)
+                .isCredentialsNonExpired(true)
+                .build());
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.selimhorri.app.config.client;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.config.cache.RemoteEntityCache;
+import com.selimhorri.app.config.executor.EnrichmentExecutor;
+import com.selimhorri.app.config.resilience.RemoteCallGuard;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves DTOs of another service through its "?ids=" endpoint: ids already in the RemoteEntityCache 
+ * are served from it, the rest go out in BATCH_LOOKUP_SIZE chunks fetched concurrently, each behind the 
+ * RemoteCallGuard. Ids of a failed or late chunk are simply missing from the result.
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchLookupClient {
+	
+	private final RestTemplate restTemplate;
+	private final EnrichmentExecutor enrichmentExecutor;
+	private final RemoteEntityCache remoteEntityCache;
+	private final RemoteCallGuard remoteCallGuard;
+	
+	public <T> Map<Integer, T> findAllByIds(final String apiUrl, final Set<Integer> ids, 
+			final ParameterizedTypeReference<DtoCollectionResponse<T>> responseType, final Function<T, Integer> idMapper) {
+		return this.remoteEntityCache.getAll(apiUrl, ids, missingIds -> {
+			final List<Integer> sortedIds = missingIds.stream()
+					.filter(Objects::nonNull)
+					.sorted()
+					.collect(Collectors.toUnmodifiableList());
+			final List<List<Integer>> chunks = IntStream.iterate(0, i -> i < sortedIds.size(), i -> i + AppConstant.BATCH_LOOKUP_SIZE)
+					.mapToObj(i -> sortedIds.subList(i, Math.min(i + AppConstant.BATCH_LOOKUP_SIZE, sortedIds.size())))
+					.collect(Collectors.toUnmodifiableList());
+			return this.enrichmentExecutor.fetchAll(chunks, chunk -> this.remoteCallGuard.call(apiUrl, 
+						() -> this.restTemplate.exchange(apiUrl + "?ids=" + chunk.stream()
+							.map(String::valueOf)
+							.collect(Collectors.joining(",")), HttpMethod.GET, null, responseType).getBody(), 
+						throwable -> null))
+					.values()
+					.stream()
+						.filter(response -> response.getCollection() != null)
+						.flatMap(response -> response.getCollection().stream())
+						.collect(Collectors.toMap(idMapper, Function.identity(), (first, second) -> first));
+		});
+	}
+	
+	
+	
+}
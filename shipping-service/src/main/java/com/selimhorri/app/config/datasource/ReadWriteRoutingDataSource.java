@@ -0,0 +1,25 @@
+package com.selimhorri.app.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes connections of read-only transactions to the replica and everything else to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy: the read-only flag is only bound after the
+ * transaction manager has begun the transaction, so the physical connection has to be fetched lazily.
+ * Read-only finders called inside a read-write transaction join it and stay on the primary, so a
+ * service always sees its own writes; a separate read-only transaction may lag behind by the
+ * replication delay (e.g. a GET issued right after the POST that created the row).
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+	
+	public enum Route {
+		PRIMARY, REPLICA
+	}
+	
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) ? Route.REPLICA : Route.PRIMARY;
+	}
+	
+}
@@ -0,0 +1,121 @@
+package com.selimhorri.app.config.hedging;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Sits in front of the load balancer interceptor: hedgeable GETs are resolved by the RequestHedger and
+ * sent straight through the pooled HttpClient, everything else passes down the chain. Each attempt is
+ * a plain HttpGet so the hedger can abort the losing one mid-exchange; 5xx answers count as failures.
+ */
+public class HedgingClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+	
+	private final RequestHedger requestHedger;
+	private final HttpClient httpClient;
+	
+	public HedgingClientHttpRequestInterceptor(final RequestHedger requestHedger, final HttpClient httpClient) {
+		this.requestHedger = requestHedger;
+		this.httpClient = httpClient;
+	}
+	
+	@Override
+	public ClientHttpResponse intercept(final HttpRequest request, final byte[] body, 
+			final ClientHttpRequestExecution execution) throws IOException {
+		
+		if (!this.requestHedger.isHedgeable(request.getMethodValue(), request.getURI()))
+			return execution.execute(request, body);
+		
+		final RequestHedger.Attempt<BufferedClientHttpResponse> attempt = (uri, abortSignal) -> {
+			final var attemptRequest = new HttpGet(uri);
+			request.getHeaders().forEach((name, values) -> {
+				if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !HttpHeaders.TRANSFER_ENCODING.equalsIgnoreCase(name))
+					values.forEach(value -> attemptRequest.addHeader(name, value));
+			});
+			abortSignal.onAbort(attemptRequest::abort);
+			return this.httpClient.execute(attemptRequest, response -> {
+				final var headers = new HttpHeaders();
+				for (final var header : response.getAllHeaders())
+					headers.add(header.getName(), header.getValue());
+				return new BufferedClientHttpResponse(response.getStatusLine().getStatusCode(), 
+						response.getStatusLine().getReasonPhrase(), headers, 
+						(response.getEntity() != null) ? EntityUtils.toByteArray(response.getEntity()) : new byte[0]);
+			});
+		};
+		return this.requestHedger.execute(request.getURI().getHost(), request.getURI(), attempt, 
+				BufferedClientHttpResponse::isServerError);
+	}
+	
+	private static final class BufferedClientHttpResponse implements ClientHttpResponse {
+		
+		private final int rawStatusCode;
+		private final String statusText;
+		private final HttpHeaders headers;
+		private final byte[] body;
+		
+		private BufferedClientHttpResponse(final int rawStatusCode, final String statusText, 
+				final HttpHeaders headers, final byte[] body) {
+			this.rawStatusCode = rawStatusCode;
+			this.statusText = statusText;
+			this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+			this.body = body;
+		}
+		
+		private boolean isServerError() {
+			return this.rawStatusCode >= 500;
+		}
+		
+		@Override
+		public HttpStatus getStatusCode() throws IOException {
+			return HttpStatus.valueOf(this.rawStatusCode);
+		}
+		
+		@Override
+		public int getRawStatusCode() throws IOException {
+			return this.rawStatusCode;
+		}
+		
+		@Override
+		public String getStatusText() throws IOException {
+			return this.statusText;
+		}
+		
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.headers;
+		}
+		
+		@Override
+		public InputStream getBody() throws IOException {
+			return new ByteArrayInputStream(this.body);
+		}
+		
+		@Override
+		public void close() {
+			// fully buffered, nothing to release
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,36 @@
+package com.selimhorri.app.config.hedging;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.hedging")
+@Data
+public class HedgingProperties {
+	
+	private boolean enabled = false;
+	private List<String> services = List.of();
+	private double delayPercentile = 0.95;
+	private Duration initialDelay = Duration.ofMillis(50);
+	private Duration minDelay = Duration.ofMillis(10);
+	private Duration maxDelay = Duration.ofSeconds(1);
+	private long minSamples = 20;
+	private double maxHedgeRatio = 0.1;
+	private int budgetBurst = 10;
+	private int poolSize = 32;
+	
+}
+
+
+
+
+
+
+
+
+
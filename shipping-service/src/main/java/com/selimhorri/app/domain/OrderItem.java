@@ -6,6 +6,7 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.IdClass;
+import javax.persistence.Index;
 import javax.persistence.Table;
 
 import com.selimhorri.app.domain.id.OrderItemId;
@@ -17,7 +18,8 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "order_items")
+@Table(name = "order_items", indexes = {
+		@Index(name = "idx_order_items_order_id", columnList = "order_id")})
 @IdClass(OrderItemId.class)
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,59 @@
+package com.selimhorri.app.domain;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Local read model of an ORDER-SERVICE order, kept current by the order events it publishes.
+ * orderVersion (the producer's per-order event counter) makes redelivered or out-of-order events no-ops.
+ * A deleted order keeps its row as a tombstone (isDeleted) so that its version still rejects stale events.
+ */
+@Entity
+@Table(name = "order_views")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class OrderView implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@Id
+	@Column(name = "order_id", unique = true, nullable = false, updatable = false)
+	private Integer orderId;
+	
+	@Column(name = "order_date")
+	private LocalDateTime orderDate;
+	
+	@Column(name = "order_desc")
+	private String orderDesc;
+	
+	@Column(name = "order_fee", columnDefinition = "decimal")
+	private Double orderFee;
+	
+	@Column(name = "order_version", nullable = false)
+	private Long orderVersion;
+	
+	@Column(name = "is_deleted", nullable = false)
+	private Boolean isDeleted;
+	
+}
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,48 @@
+package com.selimhorri.app.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.selimhorri.app.domain.OrderEventType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OrderEventDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private Long eventId;
+	private OrderEventType eventType;
+	private Integer orderId;
+	private Long orderVersion;
+	
+	@JsonProperty("order")
+	@JsonInclude(Include.NON_NULL)
+	private OrderDto orderDto;
+	
+	@JsonProperty("orderItems")
+	@JsonInclude(Include.NON_EMPTY)
+	private List<OrderItemDto> orderItemDtos;
+	
+}
+
+
+
+
+
+
+
+
+
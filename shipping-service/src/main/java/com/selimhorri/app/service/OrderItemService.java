@@ -9,7 +9,9 @@ public interface OrderItemService {
 	
 	List<OrderItemDto> findAll();
 	OrderItemDto findById(final OrderItemId orderItemId);
+	List<OrderItemDto> findAllByOrderId(final Integer orderId);
 	OrderItemDto save(final OrderItemDto orderItemDto);
+	List<OrderItemDto> saveAll(final List<OrderItemDto> orderItemDtos);
 	OrderItemDto update(final OrderItemDto orderItemDto);
 	void deleteById(final OrderItemId orderItemId);
 	
@@ -1,22 +1,30 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
 
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.config.cache.RemoteEntityCache;
+import com.selimhorri.app.config.client.BatchLookupClient;
+import com.selimhorri.app.config.resilience.RemoteCallGuard;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.OrderItemDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.OrderItemNotFoundException;
 import com.selimhorri.app.helper.OrderItemMappingHelper;
 import com.selimhorri.app.repository.OrderItemRepository;
 import com.selimhorri.app.service.OrderItemService;
+import com.selimhorri.app.service.OrderViewService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,40 +36,85 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderItemServiceImpl implements OrderItemService {
 	
 	private final OrderItemRepository orderItemRepository;
-	private final RestTemplate restTemplate;
+	private final EntityManager entityManager;
+	private final BatchLookupClient batchLookupClient;
+	private final RemoteEntityCache remoteEntityCache;
+	private final RemoteCallGuard remoteCallGuard;
+	private final OrderViewService orderViewService;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<OrderItemDto> findAll() {
 		log.info("*** OrderItemDto List, service; fetch all orderItems *");
-		return this.orderItemRepository.findAll()
+		final var orderItemDtos = this.orderItemRepository.findAll()
 				.stream()
 					.map(OrderItemMappingHelper::map)
-					.map(o -> {
-						o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-						o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
-						return o;
-					})
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
+		
+		final Map<Integer, ProductDto> productDtos = this.batchLookupClient.findAllByIds(
+				AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL, 
+				orderItemDtos.stream().map(OrderItemDto::getProductId).collect(Collectors.toSet()), 
+				new ParameterizedTypeReference<DtoCollectionResponse<ProductDto>>() {}, 
+				ProductDto::getProductId);
+		final Map<Integer, OrderDto> orderDtos = this.orderViewService.findAllByIds(
+				orderItemDtos.stream().map(OrderItemDto::getOrderId).collect(Collectors.toSet()));
+		
+		return orderItemDtos.stream()
+				.map(o -> {
+					o.setProductDto(productDtos.getOrDefault(o.getProductId(), o.getProductDto()));
+					o.setOrderDto(orderDtos.getOrDefault(o.getOrderId(), o.getOrderDto()));
+					return o;
+				})
+				.collect(Collectors.toUnmodifiableList());
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public OrderItemDto findById(final OrderItemId orderItemId) {
 		log.info("*** OrderItemDto, service; fetch orderItem by id *");
-		return this.orderItemRepository.findById(null)
+		return this.orderItemRepository.findById(orderItemId)
 				.map(OrderItemMappingHelper::map)
 				.map(o -> {
-					o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-					o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
+					o.setProductDto(this.remoteCallGuard.call(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL, 
+							() -> this.remoteEntityCache.get(AppConstant.DiscoveredDomainsApi
+								.PRODUCT_SERVICE_API_URL, o.getProductDto().getProductId(), ProductDto.class), 
+							throwable -> o.getProductDto()));
+					o.setOrderDto(this.orderViewService.findAllByIds(List.of(o.getOrderId()))
+							.getOrDefault(o.getOrderId(), o.getOrderDto()));
 					return o;
 				})
 				.orElseThrow(() -> new OrderItemNotFoundException(String.format("OrderItem with id: %s not found", orderItemId)));
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public List<OrderItemDto> findAllByOrderId(final Integer orderId) {
+		log.info("*** OrderItemDto List, service; fetch orderItems by orderId *");
+		final var orderItemDtos = this.orderItemRepository.findAllByOrderId(orderId)
+				.stream()
+					.map(OrderItemMappingHelper::map)
+					.distinct()
+					.collect(Collectors.toUnmodifiableList());
+		if (orderItemDtos.isEmpty())
+			return orderItemDtos;
+		
+		final Map<Integer, OrderDto> orderDtos = this.orderViewService.findAllByIds(List.of(orderId));
+		final Map<Integer, ProductDto> productDtos = this.batchLookupClient.findAllByIds(
+				AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL, 
+				orderItemDtos.stream().map(OrderItemDto::getProductId).collect(Collectors.toSet()), 
+				new ParameterizedTypeReference<DtoCollectionResponse<ProductDto>>() {}, 
+				ProductDto::getProductId);
+		
+		return orderItemDtos.stream()
+				.map(o -> {
+					o.setProductDto(productDtos.getOrDefault(o.getProductId(), o.getProductDto()));
+					o.setOrderDto(orderDtos.getOrDefault(orderId, o.getOrderDto()));
+					return o;
+				})
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public OrderItemDto save(final OrderItemDto orderItemDto) {
 		log.info("*** OrderItemDto, service; save orderItem *");
@@ -69,6 +122,26 @@ public class OrderItemServiceImpl implements OrderItemService {
 				.save(OrderItemMappingHelper.map(orderItemDto)));
 	}
 	
+	/**
+	 * Persists (never merges) the whole payload in one transaction, flushing every JDBC batch so that
+	 * inserts go out as batched statements and the persistence context stays bounded.
+	 */
+	@Override
+	public List<OrderItemDto> saveAll(final List<OrderItemDto> orderItemDtos) {
+		log.info("*** OrderItemDto List, service; save orderItems in batch *");
+		final List<OrderItemDto> saved = new ArrayList<>(orderItemDtos.size());
+		for (int i = 0; i < orderItemDtos.size(); i++) {
+			final var orderItem = OrderItemMappingHelper.map(orderItemDtos.get(i));
+			this.entityManager.persist(orderItem);
+			saved.add(OrderItemMappingHelper.map(orderItem));
+			if ((i + 1) % AppConstant.JDBC_BATCH_SIZE == 0) {
+				this.entityManager.flush();
+				this.entityManager.clear();
+			}
+		}
+		return saved;
+	}
+	
 	@Override
 	public OrderItemDto update(final OrderItemDto orderItemDto) {
 		log.info("*** OrderItemDto, service; update orderItem *");
@@ -84,6 +157,7 @@ public class OrderItemServiceImpl implements OrderItemService {
 	
 	
 	
+	
 }
 
 
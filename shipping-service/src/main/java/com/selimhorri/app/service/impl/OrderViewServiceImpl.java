@@ -0,0 +1,144 @@
+package com.selimhorri.app.service.impl;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.selimhorri.app.config.cache.RemoteEntityCache;
+import com.selimhorri.app.config.executor.EnrichmentExecutor;
+import com.selimhorri.app.config.resilience.RemoteCallGuard;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OrderEventType;
+import com.selimhorri.app.domain.OrderItem;
+import com.selimhorri.app.domain.OrderView;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.OrderEventDto;
+import com.selimhorri.app.helper.OrderItemMappingHelper;
+import com.selimhorri.app.helper.OrderViewMappingHelper;
+import com.selimhorri.app.repository.OrderItemRepository;
+import com.selimhorri.app.repository.OrderViewRepository;
+import com.selimhorri.app.service.OrderViewService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Transactional
+@Slf4j
+@RequiredArgsConstructor
+public class OrderViewServiceImpl implements OrderViewService {
+	
+	private final OrderViewRepository orderViewRepository;
+	private final OrderItemRepository orderItemRepository;
+	private final EnrichmentExecutor enrichmentExecutor;
+	private final RemoteEntityCache remoteEntityCache;
+	private final RemoteCallGuard remoteCallGuard;
+	private final EntityManager entityManager;
+	
+	/**
+	 * Orders without a local view (placed before the read model existed, or whose first event has
+	 * not arrived yet) are fetched from ORDER-SERVICE; an unavailable order is left out, and so is 
+	 * a deleted one, whose tombstone answers locally without a remote call.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Integer, OrderDto> findAllByIds(final Collection<Integer> orderIds) {
+		log.info("*** OrderDto Map, service; fetch order views by ids *");
+		final Map<Integer, OrderView> orderViews = this.orderViewRepository.findAllById(orderIds)
+				.stream()
+					.collect(Collectors.toMap(OrderView::getOrderId, Function.identity()));
+		final Map<Integer, OrderDto> orderDtos = orderViews.values()
+				.stream()
+					.filter(orderView -> !orderView.getIsDeleted())
+					.map(OrderViewMappingHelper::map)
+					.collect(Collectors.toMap(OrderDto::getOrderId, Function.identity()));
+		
+		final Set<Integer> missingIds = orderIds.stream()
+				.filter(Objects::nonNull)
+				.filter(orderId -> !orderViews.containsKey(orderId))
+				.collect(Collectors.toSet());
+		if (!missingIds.isEmpty())
+			orderDtos.putAll(this.enrichmentExecutor.fetchAll(missingIds, this::fetchRemote));
+		return Map.copyOf(orderDtos);
+	}
+	
+	/**
+	 * Applies the batch in order version order; an event is skipped when its view already
+	 * reflects that version or a later one, so redelivery and out-of-order delivery are harmless.
+	 * ORDER_DELETED leaves a tombstone carrying its version, which then rejects every later event 
+	 * for that order, so a redelivered batch cannot bring a deleted order back.
+	 * ORDER_PLACED (checkout) also stores the order's line items in the same transaction, skipping 
+	 * items the order already has.
+	 */
+	@Override
+	public void apply(final List<OrderEventDto> orderEventDtos) {
+		log.info("*** Void, service; apply {} order events *", orderEventDtos.size());
+		final Map<Integer, OrderView> orderViews = this.orderViewRepository.findAllById(orderEventDtos.stream()
+					.map(OrderEventDto::getOrderId)
+					.collect(Collectors.toSet()))
+				.stream()
+					.collect(Collectors.toMap(OrderView::getOrderId, Function.identity()));
+		
+		orderEventDtos.stream()
+				.sorted(Comparator.comparing(OrderEventDto::getOrderVersion))
+				.forEach(orderEventDto -> {
+					final var orderView = orderViews.get(orderEventDto.getOrderId());
+					if (orderView != null && (orderView.getIsDeleted() 
+							|| orderView.getOrderVersion() >= orderEventDto.getOrderVersion()))
+						return;
+					final var updated = (orderEventDto.getEventType() == OrderEventType.ORDER_DELETED) ? 
+							OrderView.builder()
+								.orderVersion(orderEventDto.getOrderVersion())
+								.isDeleted(true)
+								.build() : 
+							OrderViewMappingHelper.map(orderEventDto.getOrderDto(), orderEventDto.getOrderVersion());
+					updated.setOrderId(orderEventDto.getOrderId());
+					if (orderView == null)
+						this.entityManager.persist(updated);
+					else
+						this.entityManager.merge(updated);
+					orderViews.put(orderEventDto.getOrderId(), updated);
+					if (orderEventDto.getEventType() == OrderEventType.ORDER_PLACED && orderEventDto.getOrderItemDtos() != null) {
+						final Set<Integer> productIds = this.orderItemRepository.findAllByOrderId(orderEventDto.getOrderId())
+								.stream()
+									.map(OrderItem::getProductId)
+									.collect(Collectors.toCollection(HashSet::new));
+						orderEventDto.getOrderItemDtos().stream()
+								.filter(orderItemDto -> productIds.add(orderItemDto.getProductId()))
+								.forEach(orderItemDto -> {
+									orderItemDto.setOrderId(orderEventDto.getOrderId());
+									this.entityManager.persist(OrderItemMappingHelper.map(orderItemDto));
+								});
+					}
+				});
+	}
+	
+	private OrderDto fetchRemote(final Integer orderId) {
+		return this.remoteCallGuard.call(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL, 
+				() -> this.remoteEntityCache.get(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL, orderId, OrderDto.class), 
+				throwable -> null);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,16 @@
+
+CREATE TABLE order_views (
+	order_id INT(11) NOT NULL PRIMARY KEY,
+	order_date TIMESTAMP,
+	order_desc VARCHAR(255),
+	order_fee DECIMAL(7, 2),
+	order_version BIGINT NOT NULL
+);
+
+INSERT INTO order_views
+(order_id, order_date, order_desc, order_fee, order_version) VALUES
+(1, LOCALTIMESTAMP, 'init', 5000, 0),
+(2, LOCALTIMESTAMP, 'init', 5000, 0),
+(3, LOCALTIMESTAMP, 'init', 5000, 0),
+(4, LOCALTIMESTAMP, 'init', 5000, 0);
+
@@ -0,0 +1,2 @@
+
+ALTER TABLE order_views ADD COLUMN is_deleted BOOLEAN DEFAULT FALSE NOT NULL;
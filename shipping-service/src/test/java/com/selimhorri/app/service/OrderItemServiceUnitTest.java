@@ -0,0 +1,178 @@
+package com.selimhorri.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.selimhorri.app.config.cache.RemoteEntityCache;
+import com.selimhorri.app.config.client.BatchLookupClient;
+import com.selimhorri.app.config.resilience.RemoteCallGuard;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OrderItem;
+import com.selimhorri.app.domain.id.OrderItemId;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.exception.wrapper.OrderItemNotFoundException;
+import com.selimhorri.app.repository.OrderItemRepository;
+import com.selimhorri.app.service.impl.OrderItemServiceImpl;
+
+/**
+ * Pruebas Unitarias para OrderItemService
+ * - Sin contexto de Spring: repositorio, caché remota y vista de pedidos simulados con Mockito
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderItemService - Unit Tests")
+class OrderItemServiceUnitTest {
+
+    private static final String PRODUCTS_URL = AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private BatchLookupClient batchLookupClient;
+
+    @Mock
+    private RemoteEntityCache remoteEntityCache;
+
+    @Mock
+    private RemoteCallGuard remoteCallGuard;
+
+    @Mock
+    private OrderViewService orderViewService;
+
+    @InjectMocks
+    private OrderItemServiceImpl orderItemService;
+
+    private OrderItem orderItem1;
+    private OrderItem orderItem2;
+    private ProductDto productDto1;
+    private ProductDto productDto2;
+    private OrderDto orderDto;
+
+    @BeforeEach
+    void setUp() {
+        // Dos líneas del pedido 10, con los productos 1 y 2
+        orderItem1 = OrderItem.builder().productId(1).orderId(10).orderedQuantity(2).build();
+        orderItem2 = OrderItem.builder().productId(2).orderId(10).orderedQuantity(1).build();
+        productDto1 = ProductDto.builder().productId(1).productTitle("Laptop").build();
+        productDto2 = ProductDto.builder().productId(2).productTitle("Mouse").build();
+        orderDto = OrderDto.builder().orderId(10).orderDesc("Order 10").build();
+    }
+
+    @Test
+    @DisplayName("findById() - Debe buscar por la clave compuesta recibida y enriquecer producto y pedido")
+    void testFindById_ShouldLookUpCompositeKeyAndEnrich() {
+        // Arrange
+        OrderItemId orderItemId = new OrderItemId(1, 10);
+        when(orderItemRepository.findById(orderItemId)).thenReturn(Optional.of(orderItem1));
+        when(remoteCallGuard.call(eq(PRODUCTS_URL), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(remoteEntityCache.get(PRODUCTS_URL, 1, ProductDto.class)).thenReturn(productDto1);
+        when(orderViewService.findAllByIds(List.of(10))).thenReturn(Map.of(10, orderDto));
+
+        // Act
+        OrderItemDto result = orderItemService.findById(orderItemId);
+
+        // Assert
+        assertThat(result.getProductId()).isEqualTo(1);
+        assertThat(result.getOrderId()).isEqualTo(10);
+        assertThat(result.getOrderedQuantity()).isEqualTo(2);
+        assertThat(result.getProductDto().getProductTitle()).isEqualTo("Laptop");
+        assertThat(result.getOrderDto().getOrderDesc()).isEqualTo("Order 10");
+        verify(orderItemRepository, times(1)).findById(new OrderItemId(1, 10));
+    }
+
+    @Test
+    @DisplayName("findById() - Debe lanzar OrderItemNotFoundException cuando la clave no existe")
+    void testFindById_ShouldThrowWhenNotFound() {
+        // Arrange
+        OrderItemId orderItemId = new OrderItemId(99, 10);
+        when(orderItemRepository.findById(orderItemId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> orderItemService.findById(orderItemId))
+                .isInstanceOf(OrderItemNotFoundException.class);
+        verifyNoInteractions(remoteEntityCache, orderViewService);
+    }
+
+    @Test
+    @DisplayName("findAllByOrderId() - Debe enriquecer con una llamada al pedido y una búsqueda en lote de productos")
+    void testFindAllByOrderId_ShouldEnrichWithOneOrderAndOneBatchLookup() {
+        // Arrange
+        when(orderItemRepository.findAllByOrderId(10)).thenReturn(List.of(orderItem1, orderItem2));
+        when(orderViewService.findAllByIds(List.of(10))).thenReturn(Map.of(10, orderDto));
+        when(batchLookupClient.<ProductDto>findAllByIds(eq(PRODUCTS_URL), eq(Set.of(1, 2)), any(), any()))
+                .thenReturn(Map.of(1, productDto1, 2, productDto2));
+
+        // Act
+        List<OrderItemDto> result = orderItemService.findAllByOrderId(10);
+
+        // Assert
+        assertThat(result).hasSize(2);
+        assertThat(result).extracting(o -> o.getProductDto().getProductTitle()).containsExactly("Laptop", "Mouse");
+        assertThat(result).allSatisfy(o -> assertThat(o.getOrderDto().getOrderDesc()).isEqualTo("Order 10"));
+        verify(orderViewService, times(1)).findAllByIds(List.of(10));
+        verify(batchLookupClient, times(1)).findAllByIds(eq(PRODUCTS_URL), eq(Set.of(1, 2)), any(), any());
+    }
+
+    @Test
+    @DisplayName("findAllByOrderId() - Debe conservar el id del producto cuando la búsqueda remota no lo devuelve")
+    void testFindAllByOrderId_ShouldKeepProductIdWhenLookupMisses() {
+        // Arrange
+        when(orderItemRepository.findAllByOrderId(10)).thenReturn(List.of(orderItem1, orderItem2));
+        when(orderViewService.findAllByIds(List.of(10))).thenReturn(Map.of());
+        when(batchLookupClient.<ProductDto>findAllByIds(eq(PRODUCTS_URL), eq(Set.of(1, 2)), any(), any()))
+                .thenReturn(Map.of(1, productDto1));
+
+        // Act
+        List<OrderItemDto> result = orderItemService.findAllByOrderId(10);
+
+        // Assert
+        assertThat(result.get(1).getProductDto().getProductId()).isEqualTo(2);
+        assertThat(result.get(1).getProductDto().getProductTitle()).isNull();
+        assertThat(result).allSatisfy(o -> assertThat(o.getOrderDto().getOrderId()).isEqualTo(10));
+    }
+
+    @Test
+    @DisplayName("findAllByOrderId() - No debe llamar a servicios remotos cuando el pedido no tiene líneas")
+    void testFindAllByOrderId_ShouldSkipRemoteCallsWhenEmpty() {
+        // Arrange
+        when(orderItemRepository.findAllByOrderId(10)).thenReturn(List.of());
+
+        // Act
+        List<OrderItemDto> result = orderItemService.findAllByOrderId(10);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(orderViewService, never()).findAllByIds(any());
+        verifyNoInteractions(batchLookupClient);
+    }
+
+}
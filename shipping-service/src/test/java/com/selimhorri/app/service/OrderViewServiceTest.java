@@ -0,0 +1,193 @@
+package com.selimhorri.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.selimhorri.app.config.cache.RemoteEntityCache;
+import com.selimhorri.app.config.executor.EnrichmentExecutor;
+import com.selimhorri.app.config.resilience.RemoteCallGuard;
+import com.selimhorri.app.domain.OrderEventType;
+import com.selimhorri.app.domain.OrderItem;
+import com.selimhorri.app.domain.OrderView;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.OrderEventDto;
+import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.repository.OrderItemRepository;
+import com.selimhorri.app.repository.OrderViewRepository;
+import com.selimhorri.app.service.impl.OrderViewServiceImpl;
+
+/**
+ * Pruebas del consumidor de eventos de pedido (OrderViewService.apply)
+ * - H2 en memoria; cada entrega se aplica y se vuelca como si fuera su propia transacción
+ * - Cubre reentrega, desorden, borrado seguido de eventos obsoletos y las líneas guardadas por ORDER_PLACED
+ */
+@DataJpaTest
+@Import(OrderViewServiceImpl.class)
+@ActiveProfiles("test")
+@DisplayName("OrderViewService - Consumer Tests")
+class OrderViewServiceTest {
+
+    private static final Integer ORDER_ID = 7;
+
+    @Autowired
+    private OrderViewService orderViewService;
+
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @MockBean
+    private EnrichmentExecutor enrichmentExecutor;
+
+    @MockBean
+    private RemoteEntityCache remoteEntityCache;
+
+    @MockBean
+    private RemoteCallGuard remoteCallGuard;
+
+    @Test
+    @DisplayName("apply() - ORDER_PLACED debe crear la vista y guardar las líneas del pedido")
+    void testApply_OrderPlaced_ShouldCreateViewAndStoreItems() {
+        // Act
+        deliver(event(OrderEventType.ORDER_PLACED, 1L, "Order A"));
+
+        // Assert
+        OrderView orderView = orderViewRepository.findById(ORDER_ID).orElseThrow();
+        assertThat(orderView.getOrderVersion()).isEqualTo(1L);
+        assertThat(orderView.getIsDeleted()).isFalse();
+        assertThat(orderItemRepository.findAllByOrderId(ORDER_ID))
+                .extracting(OrderItem::getProductId, OrderItem::getOrderedQuantity)
+                .containsExactlyInAnyOrder(
+                        tuple(1, 2),
+                        tuple(2, 1));
+    }
+
+    @Test
+    @DisplayName("apply() - Una reentrega de ORDER_PLACED no debe volver a insertar las líneas")
+    void testApply_Redelivery_ShouldBeNoOp() {
+        // Act
+        deliver(event(OrderEventType.ORDER_PLACED, 1L, "Order A"));
+        deliver(event(OrderEventType.ORDER_PLACED, 1L, "Order A"));
+
+        // Assert
+        assertThat(orderViewRepository.findById(ORDER_ID).orElseThrow().getOrderVersion()).isEqualTo(1L);
+        assertThat(orderItemRepository.findAllByOrderId(ORDER_ID)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("apply() - ORDER_PLACED debe omitir las líneas que el pedido ya tiene")
+    void testApply_OrderPlaced_ShouldSkipExistingItems() {
+        // Arrange
+        testEntityManager.persist(OrderItem.builder().productId(1).orderId(ORDER_ID).orderedQuantity(2).build());
+        testEntityManager.flush();
+
+        // Act
+        deliver(event(OrderEventType.ORDER_PLACED, 1L, "Order A"));
+
+        // Assert
+        assertThat(orderItemRepository.findAllByOrderId(ORDER_ID))
+                .extracting(OrderItem::getProductId)
+                .containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    @DisplayName("apply() - Los eventos desordenados de un lote deben aplicarse por versión")
+    void testApply_OutOfOrderBatch_ShouldApplyInVersionOrder() {
+        // Act
+        deliver(event(OrderEventType.ORDER_UPDATED, 2L, "Order B"), event(OrderEventType.ORDER_PLACED, 1L, "Order A"));
+
+        // Assert
+        OrderView orderView = orderViewRepository.findById(ORDER_ID).orElseThrow();
+        assertThat(orderView.getOrderVersion()).isEqualTo(2L);
+        assertThat(orderView.getOrderDesc()).isEqualTo("Order B");
+        assertThat(orderItemRepository.findAllByOrderId(ORDER_ID)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("apply() - Un evento con versión anterior a la vista debe ignorarse")
+    void testApply_StaleEvent_ShouldBeIgnored() {
+        // Act
+        deliver(event(OrderEventType.ORDER_PLACED, 1L, "Order A"), event(OrderEventType.ORDER_UPDATED, 2L, "Order B"));
+        deliver(event(OrderEventType.ORDER_UPDATED, 2L, "Order B"));
+        deliver(event(OrderEventType.ORDER_PLACED, 1L, "Order A"));
+
+        // Assert
+        OrderView orderView = orderViewRepository.findById(ORDER_ID).orElseThrow();
+        assertThat(orderView.getOrderVersion()).isEqualTo(2L);
+        assertThat(orderView.getOrderDesc()).isEqualTo("Order B");
+    }
+
+    @Test
+    @DisplayName("apply() - Tras ORDER_DELETED, una reentrega obsoleta no debe resucitar el pedido")
+    void testApply_DeleteThenStaleEvents_ShouldKeepTombstone() {
+        // Act
+        deliver(event(OrderEventType.ORDER_PLACED, 1L, "Order A"));
+        deliver(event(OrderEventType.ORDER_DELETED, 3L, null));
+        deliver(event(OrderEventType.ORDER_PLACED, 1L, "Order A"), event(OrderEventType.ORDER_UPDATED, 2L, "Order B"));
+
+        // Assert
+        OrderView orderView = orderViewRepository.findById(ORDER_ID).orElseThrow();
+        assertThat(orderView.getIsDeleted()).isTrue();
+        assertThat(orderView.getOrderVersion()).isEqualTo(3L);
+        assertThat(orderItemRepository.findAllByOrderId(ORDER_ID)).hasSize(2);
+        assertThat(orderViewService.findAllByIds(List.of(ORDER_ID))).isEmpty();
+        verify(enrichmentExecutor, never()).fetchAll(any(), any());
+    }
+
+    @Test
+    @DisplayName("apply() - ORDER_DELETED antes que ORDER_PLACED debe dejar una lápida que rechace el alta")
+    void testApply_DeleteBeforePlaced_ShouldRejectPlaced() {
+        // Act
+        deliver(event(OrderEventType.ORDER_DELETED, 2L, null));
+        deliver(event(OrderEventType.ORDER_PLACED, 1L, "Order A"));
+
+        // Assert
+        assertThat(orderViewRepository.findById(ORDER_ID).orElseThrow().getIsDeleted()).isTrue();
+        assertThat(orderItemRepository.findAllByOrderId(ORDER_ID)).isEmpty();
+    }
+
+    private void deliver(final OrderEventDto... orderEventDtos) {
+        orderViewService.apply(List.of(orderEventDtos));
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    private static OrderEventDto event(final OrderEventType eventType, final Long orderVersion, final String orderDesc) {
+        final boolean deleted = eventType == OrderEventType.ORDER_DELETED;
+        return OrderEventDto.builder()
+                .eventType(eventType)
+                .orderId(ORDER_ID)
+                .orderVersion(orderVersion)
+                .orderDto(deleted ? null : OrderDto.builder()
+                        .orderId(ORDER_ID)
+                        .orderDate(LocalDateTime.now())
+                        .orderDesc(orderDesc)
+                        .orderFee(50.0)
+                        .build())
+                .orderItemDtos((eventType != OrderEventType.ORDER_PLACED) ? null : List.of(
+                        OrderItemDto.builder().productId(1).orderedQuantity(2).build(),
+                        OrderItemDto.builder().productId(2).orderedQuantity(1).build()))
+                .build();
+    }
+
+}
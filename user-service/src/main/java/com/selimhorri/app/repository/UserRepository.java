@@ -1,7 +1,9 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.selimhorri.app.domain.User;
@@ -9,5 +11,6 @@ import com.selimhorri.app.domain.User;
 public interface UserRepository extends JpaRepository<User, Integer> {
 	
 	Optional<User> findByCredentialUsername(final String username);
+	List<User> findAllByUserIdGreaterThanOrderByUserIdAsc(final Integer userId, final Pageable pageable);
 	
 }
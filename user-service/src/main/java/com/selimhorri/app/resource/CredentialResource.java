@@ -12,8 +12,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.dto.CredentialAuthDto;
 import com.selimhorri.app.dto.CredentialDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.CredentialService;
@@ -30,9 +32,13 @@ public class CredentialResource {
 	private final CredentialService credentialService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<CredentialDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<CredentialDto>> findAll(
+			@RequestParam(name = "after", required = false) final Integer after, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
 		log.info("*** CredentialDto List, controller; fetch all credentials *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.credentialService.findAll()));
+		final int pageLimit = DtoCollectionResponse.pageLimit(limit);
+		return ResponseEntity.ok(DtoCollectionResponse.ofPage(
+				this.credentialService.findAll(after, pageLimit), pageLimit, CredentialDto::getCredentialId));
 	}
 	
 	@GetMapping("/{credentialId}")
@@ -92,6 +98,15 @@ public class CredentialResource {
 		return ResponseEntity.ok(this.credentialService.findByUsername(username));
 	}
 	
+	@GetMapping("/username/{username}/auth")
+	public ResponseEntity<CredentialAuthDto> findAuthByUsername(
+			@PathVariable("username") 
+			@NotBlank(message = "Input must not blank") 
+			@Valid final String username) {
+		log.info("*** CredentialAuthDto, resource; fetch credential auth fields by username *");
+		return ResponseEntity.ok(this.credentialService.findAuthByUsername(username));
+	}
+	
 	
 	
 }
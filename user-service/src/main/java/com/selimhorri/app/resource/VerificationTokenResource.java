@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.dto.VerificationTokenDto;
@@ -30,9 +31,13 @@ public class VerificationTokenResource {
 	private final VerificationTokenService verificationTokenService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<VerificationTokenDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<VerificationTokenDto>> findAll(
+			@RequestParam(name = "after", required = false) final Integer after, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
 		log.info("*** VerificationTokenDto List, controller; fetch all verificationTokens *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.verificationTokenService.findAll()));
+		final int pageLimit = DtoCollectionResponse.pageLimit(limit);
+		return ResponseEntity.ok(DtoCollectionResponse.ofPage(
+				this.verificationTokenService.findAll(after, pageLimit), pageLimit, VerificationTokenDto::getVerificationTokenId));
 	}
 	
 	@GetMapping("/{verificationTokenId}")
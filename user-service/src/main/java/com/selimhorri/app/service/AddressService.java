@@ -7,6 +7,7 @@ import com.selimhorri.app.dto.AddressDto;
 public interface AddressService {
 	
 	List<AddressDto> findAll();
+	List<AddressDto> findAll(final Integer after, final int limit);
 	AddressDto findById(final Integer addressId);
 	AddressDto save(final AddressDto addressDto);
 	AddressDto update(final AddressDto addressDto);
@@ -2,17 +2,20 @@ package com.selimhorri.app.service;
 
 import java.util.List;
 
+import com.selimhorri.app.dto.CredentialAuthDto;
 import com.selimhorri.app.dto.CredentialDto;
 
 public interface CredentialService {
 	
 	List<CredentialDto> findAll();
+	List<CredentialDto> findAll(final Integer after, final int limit);
 	CredentialDto findById(final Integer credentialId);
 	CredentialDto save(final CredentialDto credentialDto);
 	CredentialDto update(final CredentialDto credentialDto);
 	CredentialDto update(final Integer credentialId, final CredentialDto credentialDto);
 	void deleteById(final Integer credentialId);
 	CredentialDto findByUsername(final String username);
+	CredentialAuthDto findAuthByUsername(final String username);
 	
 }
 
@@ -1,5 +1,6 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.selimhorri.app.dto.UserDto;
@@ -7,6 +8,8 @@ import com.selimhorri.app.dto.UserDto;
 public interface UserService {
 	
 	List<UserDto> findAll();
+	List<UserDto> findAll(final Integer after, final int limit);
+	List<UserDto> findAllByIds(final Collection<Integer> userIds);
 	UserDto findById(final Integer userId);
 	UserDto save(final UserDto userDto);
 	UserDto update(final UserDto userDto);
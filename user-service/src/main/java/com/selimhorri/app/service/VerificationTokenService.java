@@ -7,6 +7,7 @@ import com.selimhorri.app.dto.VerificationTokenDto;
 public interface VerificationTokenService {
 	
 	List<VerificationTokenDto> findAll();
+	List<VerificationTokenDto> findAll(final Integer after, final int limit);
 	VerificationTokenDto findById(final Integer verificationTokenId);
 	VerificationTokenDto save(final VerificationTokenDto verificationTokenDto);
 	VerificationTokenDto update(final VerificationTokenDto verificationTokenDto);
@@ -3,9 +3,9 @@ package com.selimhorri.app.service.impl;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.selimhorri.app.dto.AddressDto;
 import com.selimhorri.app.exception.wrapper.AddressNotFoundException;
@@ -25,6 +25,7 @@ public class AddressServiceImpl implements AddressService {
 	private final AddressRepository addressRepository;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<AddressDto> findAll() {
 		log.info("*** AddressDto List, service; fetch all addresss *");
 		return this.addressRepository.findAll()
@@ -35,6 +36,17 @@ public class AddressServiceImpl implements AddressService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
+	public List<AddressDto> findAll(final Integer after, final int limit) {
+		log.info("*** AddressDto List, service; fetch addresses page *");
+		return this.addressRepository.findAllByAddressIdGreaterThanOrderByAddressIdAsc((after != null) ? after : 0, PageRequest.of(0, limit))
+				.stream()
+					.map(AddressMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
 	public AddressDto findById(final Integer addressId) {
 		log.info("*** AddressDto, service; fetch address by id *");
 		return this.addressRepository.findById(addressId)
@@ -3,10 +3,11 @@ package com.selimhorri.app.service.impl;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.dto.CredentialAuthDto;
 import com.selimhorri.app.dto.CredentialDto;
 import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
@@ -26,6 +27,7 @@ public class CredentialServiceImpl implements CredentialService {
 	private final CredentialRepository credentialRepository;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<CredentialDto> findAll() {
 		log.info("*** CredentialDto List, service; fetch all credentials *");
 		return this.credentialRepository.findAll()
@@ -36,6 +38,17 @@ public class CredentialServiceImpl implements CredentialService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
+	public List<CredentialDto> findAll(final Integer after, final int limit) {
+		log.info("*** CredentialDto List, service; fetch credentials page *");
+		return this.credentialRepository.findAllByCredentialIdGreaterThanOrderByCredentialIdAsc((after != null) ? after : 0, PageRequest.of(0, limit))
+				.stream()
+					.map(CredentialMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
 	public CredentialDto findById(final Integer credentialId) {
 		log.info("*** CredentialDto, service; fetch credential by ids *");
 		return this.credentialRepository.findById(credentialId)
@@ -69,11 +82,20 @@ public class CredentialServiceImpl implements CredentialService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public CredentialDto findByUsername(final String username) {
 		return CredentialMappingHelper.map(this.credentialRepository.findByUsername(username)
 				.orElseThrow(() -> new UserObjectNotFoundException(String.format("#### Credential with username: %s not found! ####", username))));
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public CredentialAuthDto findAuthByUsername(final String username) {
+		log.info("*** CredentialAuthDto, service; fetch credential auth fields by username *");
+		return this.credentialRepository.findAuthByUsername(username)
+				.orElseThrow(() -> new UserObjectNotFoundException(String.format("#### Credential with username: %s not found! ####", username)));
+	}
+	
 	
 	
 }
@@ -1,11 +1,12 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.selimhorri.app.dto.UserDto;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
@@ -25,6 +26,7 @@ public class UserServiceImpl implements UserService {
 	private final UserRepository userRepository;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<UserDto> findAll() {
 		log.info("*** UserDto List, service; fetch all users *");
 		return this.userRepository.findAll()
@@ -35,6 +37,32 @@ public class UserServiceImpl implements UserService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
+	public List<UserDto> findAll(final Integer after, final int limit) {
+		log.info("*** UserDto List, service; fetch users page *");
+		return this.userRepository.findAllByUserIdGreaterThanOrderByUserIdAsc((after != null) ? after : 0, PageRequest.of(0, limit))
+				.stream()
+					.map(UserMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	/**
+	 * One IN query for the given ids; chunking to IN_CLAUSE_CHUNK_SIZE is left to the caller 
+	 * (UserResource streams the response chunk by chunk).
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<UserDto> findAllByIds(final Collection<Integer> userIds) {
+		log.info("*** UserDto List, service; fetch users by ids *");
+		return this.userRepository.findAllById(userIds)
+				.stream()
+					.map(UserMappingHelper::map)
+					.distinct()
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
 	public UserDto findById(final Integer userId) {
 		log.info("*** UserDto, service; fetch user by id *");
 		return this.userRepository.findById(userId)
@@ -68,6 +96,7 @@ public class UserServiceImpl implements UserService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public UserDto findByUsername(final String username) {
 		log.info("*** UserDto, service; fetch user with username *");
 		return UserMappingHelper.map(this.userRepository.findByCredentialUsername(username)
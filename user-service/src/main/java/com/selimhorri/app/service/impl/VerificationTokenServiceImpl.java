@@ -3,9 +3,9 @@ package com.selimhorri.app.service.impl;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.selimhorri.app.dto.VerificationTokenDto;
 import com.selimhorri.app.exception.wrapper.VerificationTokenNotFoundException;
@@ -25,6 +25,7 @@ public class VerificationTokenServiceImpl implements VerificationTokenService {
 	private final VerificationTokenRepository verificationTokenRepository;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<VerificationTokenDto> findAll() {
 		log.info("*** VerificationTokenDto List, service; fetch all verificationTokens *");
 		return this.verificationTokenRepository.findAll()
@@ -35,6 +36,17 @@ public class VerificationTokenServiceImpl implements VerificationTokenService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
+	public List<VerificationTokenDto> findAll(final Integer after, final int limit) {
+		log.info("*** VerificationTokenDto List, service; fetch verificationTokens page *");
+		return this.verificationTokenRepository.findAllByVerificationTokenIdGreaterThanOrderByVerificationTokenIdAsc((after != null) ? after : 0, PageRequest.of(0, limit))
+				.stream()
+					.map(VerificationTokenMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
 	public VerificationTokenDto findById(final Integer verificationTokenId) {
 		log.info("*** VerificationTokenDto, service; fetch verificationToken by ids *");
 		return this.verificationTokenRepository.findById(verificationTokenId)
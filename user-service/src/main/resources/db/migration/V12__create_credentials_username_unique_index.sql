@@ -0,0 +1,3 @@
+
+CREATE UNIQUE INDEX idx_credentials_username ON credentials (username);
+
@@ -0,0 +1,110 @@
+package com.selimhorri.app.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.domain.RoleBasedAuthority;
+import com.selimhorri.app.domain.User;
+import com.selimhorri.app.dto.CredentialAuthDto;
+
+/**
+ * Pruebas de Repositorio para CredentialRepository
+ * - H2 en memoria con estadísticas de Hibernate: la proyección de autenticación no debe hidratar entidades
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("CredentialRepository - Auth Projection Tests")
+class CredentialRepositoryTest {
+
+    @Autowired
+    private CredentialRepository credentialRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // Usuario con su credencial
+        User user = testEntityManager.persist(User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@example.com")
+                .build());
+        testEntityManager.persist(Credential.builder()
+                .username("johndoe")
+                .password("$2a$04$hash")
+                .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                .isEnabled(true)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(true)
+                .isCredentialsNonExpired(false)
+                .user(user)
+                .build());
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findAuthByUsername() - Debe leer los campos de la credencial con una sola sentencia y sin cargar entidades")
+    void testFindAuthByUsername_ShouldLoadCredentialFieldsWithoutUserGraph() {
+        // Act
+        Optional<CredentialAuthDto> result = credentialRepository.findAuthByUsername("johndoe");
+
+        // Assert
+        assertThat(result).isPresent();
+        assertThat(result.get().getUsername()).isEqualTo("johndoe");
+        assertThat(result.get().getPassword()).isEqualTo("$2a$04$hash");
+        assertThat(result.get().getRoleBasedAuthority()).isEqualTo(RoleBasedAuthority.ROLE_USER);
+        assertThat(result.get().getIsEnabled()).isTrue();
+        assertThat(result.get().getIsAccountNonExpired()).isTrue();
+        assertThat(result.get().getIsAccountNonLocked()).isTrue();
+        assertThat(result.get().getIsCredentialsNonExpired()).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("findAuthByUsername() - Debe retornar vacío cuando el usuario no existe")
+    void testFindAuthByUsername_ShouldReturnEmptyWhenUnknown() {
+        // Act
+        Optional<CredentialAuthDto> result = credentialRepository.findAuthByUsername("unknown");
+
+        // Assert
+        assertThat(result).isEmpty();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("findByUsername() - A diferencia de la proyección, hidrata la entidad Credential")
+    void testFindByUsername_ShouldHydrateEntities() {
+        // Act
+        Optional<Credential> result = credentialRepository.findByUsername("johndoe");
+
+        // Assert
+        assertThat(result).isPresent();
+        assertThat(statistics.getEntityLoadCount()).isPositive();
+    }
+
+}
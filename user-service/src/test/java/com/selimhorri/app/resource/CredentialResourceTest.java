@@ -0,0 +1,90 @@
+package com.selimhorri.app.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.selimhorri.app.domain.RoleBasedAuthority;
+import com.selimhorri.app.dto.CredentialAuthDto;
+import com.selimhorri.app.repository.CredentialRepository;
+
+/**
+ * Pruebas de Integración para CredentialResource
+ * - @SpringBootTest con RANDOM_PORT y TestRestTemplate; el repositorio se simula con @MockBean
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("CredentialResource - Integration Tests")
+class CredentialResourceTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @MockBean
+    private CredentialRepository credentialRepository;
+
+    @Test
+    @DisplayName("GET /api/credentials/username/{username}/auth - Debe retornar solo los campos de autenticación")
+    void testFindAuthByUsername_Integration() {
+        // Arrange
+        when(credentialRepository.findAuthByUsername("johndoe")).thenReturn(Optional.of(CredentialAuthDto.builder()
+                .username("johndoe")
+                .password("$2a$04$hash")
+                .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                .isEnabled(true)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(true)
+                .isCredentialsNonExpired(true)
+                .build()));
+
+        // Act
+        String url = "http://localhost:" + port + "/user-service/api/credentials/username/johndoe/auth";
+        ResponseEntity<JsonNode> response = restTemplate.getForEntity(url, JsonNode.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().get("username").asText()).isEqualTo("johndoe");
+        assertThat(response.getBody().get("roleBasedAuthority").asText()).isEqualTo("ROLE_USER");
+        assertThat(response.getBody().get("isEnabled").asBoolean()).isTrue();
+        assertThat(response.getBody().has("user")).isFalse();
+        assertThat(response.getBody().has("credentialId")).isFalse();
+        verify(credentialRepository, never()).findByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("GET /api/credentials/username/{username}/auth - Debe retornar 400 cuando el usuario no existe")
+    void testFindAuthByUsername_NotFound_Integration() {
+        // Arrange
+        when(credentialRepository.findAuthByUsername("unknown")).thenReturn(Optional.empty());
+
+        // Act
+        String url = "http://localhost:" + port + "/user-service/api/credentials/username/unknown/auth";
+        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).contains("unknown");
+    }
+
+}